@@ -1,10 +1,16 @@
 package com.benchmarks.ArrayList;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
 import com.benchmarks.Student;
+import com.benchmarks.StudentFormat;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+import com.benchmarks.data.Names;
 
 import org.openjdk.jmh.annotations.*;
 
@@ -15,45 +21,26 @@ public class ArrayListClass {
 
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
         public ArrayList<Student> students;
         public ArrayList<Integer> data;
 
-        public List<String> firstNames = new ArrayList<String>(List.of(
-                // Simple Male
-                "Juan", "Carlos", "Manuel", "Francisco", "Mauricio", "Eduardo",
-                // Simple Female
-                "Fernanda", "María", "Sofía", "Ana", "Carla", "Marlene",
-                // Composite Male
-                "Juan Manuel", "Luis Carlos", "Manuel Alejandro", "Javier Francisco", "Luis Eduardo", "José Luis",
-                // Composite Female
-                "María Fernanda", "María Jose", "Sofía Paulina", "Ana Belén", "Daniela Alejandra", "Luz Angélica"));
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
 
-        public List<String> lastNames = new ArrayList<String>(List.of("García", "Rodríguez", "Hernández",
-                "López", "Martínez", "González", "Pérez", "Sánchez", "Ramírez", "Torres", "Flores", "Rivera", "Gómez",
-                "Díaz", "Cruz", "Morales", "Reyes", "Gutiérrez", "Ortiz"));
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        public StudentFormat reduceFormat = StudentFormat.compile("{lastName}, {firstName}, {passed}");
+        public StudentFormat mapFormat = StudentFormat.compile("{lastName}, {firstName}");
 
         @Setup(Level.Trial)
         public void setupStudents() {
-            var rnd = new Random();
-            int maxF = firstNames.size();
-            int maxL = lastNames.size();
-
-            students = new ArrayList<Student>(N);
-            target = rnd.nextInt(N - (-N)) - N;
-
-            for (int i = 1; i <= N; i++) {
-                var s = new Student() {
-                    {
-                        average = rnd.nextInt(100 - 50) - 50;
-                        ID = rnd.nextLong();
-                        firstName = firstNames.get(rnd.nextInt(maxF));
-                        lastName = lastNames.get(rnd.nextInt(maxL));
-                    }
-                };
-
-                students.add(s);
-            }
+            var snapshot = Snapshot.open(ArrayListClass.class, N, seed, snapshots);
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = new ArrayList<Student>(Arrays.asList(snapshot.students("students", () -> Datasets.students(seed, 1, N, -50, 0))));
 
             data = new ArrayList<Integer>(N);
             for (int i = 1; i <= N; i++) {
@@ -97,6 +84,27 @@ public class ArrayListClass {
         return sb.toString();
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String formatterReduce(Bench b) {
+        int size = b.students.size();
+        var sb = new StringBuilder(size * b.reduceFormat.estimatedLength());
+
+        for (int i = 0; i < size; i++) {
+            b.reduceFormat.appendTo(sb, b.students.get(i));
+        }
+
+        return sb.toString();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Student> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -160,6 +168,24 @@ public class ArrayListClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> parallelPopulate(Bench b, ParallelPool p) {
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        return p.invoke(() -> b.data.parallelStream().map(i -> {
+            var rnd = ThreadLocalRandom.current();
+            return new Student() {
+                {
+                    firstName = b.firstNames.get(rnd.nextInt(maxF));
+                    lastName = b.lastNames.get(rnd.nextInt(maxL));
+                    average = rnd.nextInt(100 - 50) - 50;
+                    ID = i + rnd.nextLong();
+                }
+            };
+        }).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         return (int) b.students.stream()
@@ -193,6 +219,12 @@ public class ArrayListClass {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.students.parallelStream()
+                .filter(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE).count());
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.students.stream().anyMatch(
@@ -224,6 +256,12 @@ public class ArrayListClass {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Student> lambdaFilter(Bench b) {
         return b.students.stream()
@@ -259,6 +297,13 @@ public class ArrayListClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Student> lambdaCopy(Bench b) {
         return b.students.stream().map(s -> new Student() {
@@ -311,6 +356,18 @@ public class ArrayListClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().map(s -> new Student() {
+            {
+                average = s.average;
+                ID = s.ID;
+                firstName = s.firstName;
+                lastName = s.lastName;
+            }
+        }).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, String> lambdaMap(Bench b) {
         return new HashMap<Long, String>(b.students.stream()
@@ -345,4 +402,23 @@ public class ArrayListClass {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.students.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> formatterMap(Bench b) {
+        int size = b.students.size();
+        var result = new HashMap<Long, String>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            result.put(s.ID, b.mapFormat.format(s));
+        }
+
+        return result;
+    }
 }
\ No newline at end of file
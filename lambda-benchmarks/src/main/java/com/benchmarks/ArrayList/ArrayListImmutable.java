@@ -0,0 +1,294 @@
+package com.benchmarks.ArrayList;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ImmutableStudent;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListClass with ImmutableStudent elements. Compare with -prof gc (gc.alloc.rate.norm per
+// element) and -prof cl (classes loaded): every double-brace site in ArrayListClass's populate benchmarks
+// is its own class. The read benchmarks wrap the same Datasets students that ArrayListClass reads
+// as plain Student instances.
+public class ArrayListImmutable {
+
+    @State(Scope.Thread)
+    public static class Bench {
+
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public ArrayList<ImmutableStudent> students;
+        public ArrayList<Integer> data;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupStudents() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = new ArrayList<ImmutableStudent>(N);
+            for (var s : Datasets.students(seed, 1, N, -50, 0)) {
+                students.add(ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName));
+            }
+
+            data = new ArrayList<Integer>(N);
+            for (int i = 1; i <= N; i++) {
+                data.add(i);
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String lambdaReduce(Bench b) {
+        return b.students.stream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var sb = new StringBuilder();
+
+        for (int i = 0; i < b.students.size(); i++) {
+            ImmutableStudent s = b.students.get(i);
+            var passed = s.average > 60 ? Integer.toString(s.average) : "Failed";
+            sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String iteratorReduce(Bench b) {
+        var sb = new StringBuilder();
+
+        for (var s : b.students) {
+            var average = s.average;
+            var passed = average > 60 ? Integer.toString(average) : "Failed";
+            sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> lambdaPopulate(Bench b) {
+        var rnd = new Random();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        return b.data.stream().map(i -> ImmutableStudent.of(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> loopPopulate(Bench b) {
+        int size = b.data.size();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        var rnd = new Random();
+        var result = new ArrayList<ImmutableStudent>(size);
+
+        for (int i = 0; i < size; i++) {
+            result.add(ImmutableStudent.of(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                    b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> iteratorPopulate(Bench b) {
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+        int size = b.students.size();
+
+        var rnd = new Random();
+        var result = new ArrayList<ImmutableStudent>(size);
+
+        for (var i : b.data) {
+            result.add(ImmutableStudent.of(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                    b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        return (int) b.students.stream()
+                .filter(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        int count = 0;
+        int size = b.students.size();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iteratorIterate(Bench b) {
+        int count = 0;
+        for (var s : b.students) {
+            if (s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.students.stream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es"));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        int size = b.students.size();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorContains(Bench b) {
+        for (var s : b.students) {
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> lambdaFilter(Bench b) {
+        return b.students.stream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> loopFilter(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<ImmutableStudent>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> iteratorFilter(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<ImmutableStudent>(size);
+        for (var s : b.students) {
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> lambdaCopy(Bench b) {
+        return b.students.stream().map(s -> ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> loopCopy(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<ImmutableStudent>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+
+            result.add(ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<ImmutableStudent> iteratorCopy(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<ImmutableStudent>(size);
+
+        for (var s : b.students) {
+            result.add(ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> lambdaMap(Bench b) {
+        return new HashMap<Long, String>(b.students.stream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName))));
+
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        int size = b.students.size();
+        var result = new HashMap<Long, String>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            var value = String.format("%s, %s", s.lastName, s.firstName);
+
+            result.put(s.ID, value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> iteratorMap(Bench b) {
+        int size = b.students.size();
+        var result = new HashMap<Long, String>(size);
+
+        for (var s : b.students) {
+            var value = String.format("%s, %s", s.lastName, s.firstName);
+            result.put(s.ID, value);
+        }
+
+        return result;
+    }
+}
\ No newline at end of file
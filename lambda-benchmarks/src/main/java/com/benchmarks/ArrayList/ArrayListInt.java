@@ -1,9 +1,14 @@
 package com.benchmarks.ArrayList;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class ArrayListInt {
@@ -12,6 +17,10 @@ public class ArrayListInt {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
         public ArrayList<Integer> data;
         public ArrayList<Integer> contains;
@@ -19,27 +28,22 @@ public class ArrayListInt {
         
         @Setup(Level.Trial)
         public void setupData() {
+            var snapshot = Snapshot.open(ArrayListInt.class, N, seed, snapshots);
             data = new ArrayList<Integer>(N);
             for (int i = 1; i <= N; i++) {
                 data.add(i);
             }
 
+            target = Datasets.random(seed, 0).nextInt(-1, 99);
+
             contains = new ArrayList<Integer>(N);
-            var max = 101;
-            var min = 1;
-            var rnd = new Random();
-    
-            target = rnd.nextInt(max - min) - min;
-    
-            for (int i = 1; i <= N; i++) {
-                contains.add(rnd.nextInt(max - min) - min);
+            for (int v : snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, -1, 99))) {
+                contains.add(v);
             }
 
             filter = new ArrayList<Integer>(N);
-            int minf = -N;
-    
-            for (int i = 1; i <= N; i++) {
-                filter.add(rnd.nextInt(N - minf) - minf);
+            for (int v : snapshot.ints("filter", () -> Datasets.ints(seed, 2, N, N, 3 * N))) {
+                filter.add(v);
             }
         }
     }
@@ -69,6 +73,16 @@ public class ArrayListInt {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveReduce(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Integer> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -99,6 +113,23 @@ public class ArrayListInt {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> {
+            var values = IntStream.range(0, b.data.size()).parallel()
+                    .map(i -> ThreadLocalRandom.current().nextInt(101)).toArray();
+            Arrays.parallelPrefix(values, Integer::sum);
+
+            return Arrays.stream(values).parallel().boxed().collect(Collectors.toCollection(ArrayList::new));
+        });
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitivePopulate(Bench b) {
+        var rnd = new Random();
+        return IntStream.iterate(rnd.nextInt(101), i -> i + rnd.nextInt(101)).limit(b.data.size()).toArray();
+    }
    
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
@@ -126,6 +157,16 @@ public class ArrayListInt {
 
         return count;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveIterate(Bench b) {
+        return (int) b.data.stream().mapToInt(Integer::intValue).filter(n -> n > 0).count();
+    }
     
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
@@ -152,6 +193,16 @@ public class ArrayListInt {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.stream().mapToInt(Integer::intValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Integer> lambdaFilter(Bench b) {
         return b.filter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new));
@@ -179,6 +230,16 @@ public class ArrayListInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filter.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveFilter(Bench b) {
+        return b.filter.stream().mapToInt(Integer::intValue).filter(n -> n >= 0).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Integer> lambdaCopy(Bench b) {
         return b.data.stream().map(n -> n).collect(Collectors.toCollection(ArrayList::new));
@@ -204,6 +265,16 @@ public class ArrayListInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveCopy(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Integer> lambdaMap(Bench b) {
         return b.data.stream().map(n -> n * n).collect(Collectors.toCollection(ArrayList::new));
@@ -228,4 +299,14 @@ public class ArrayListInt {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * n).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveMap(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).map(n -> n * n).toArray();
+    }
 }
\ No newline at end of file
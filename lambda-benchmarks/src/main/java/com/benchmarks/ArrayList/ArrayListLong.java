@@ -1,8 +1,14 @@
 package com.benchmarks.ArrayList;
 
 import java.util.*;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class ArrayListLong {
@@ -11,6 +17,10 @@ public class ArrayListLong {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public long target;
         public ArrayList<Long> data;
         public ArrayList<Long> contains;
@@ -18,26 +28,22 @@ public class ArrayListLong {
 
         @Setup(Level.Trial)
         public void setupData() {
-            var rnd = new Random();
-            int min = -N;
-
+            var snapshot = Snapshot.open(ArrayListLong.class, N, seed, snapshots);
             data = new ArrayList<Long>(N);
             contains = new ArrayList<Long>(N);
             filtering = new ArrayList<Long>(N);
-            target = (long) rnd.nextInt(101) * N;
+            target = (long) Datasets.random(seed, 0).nextInt(101) * N;
 
             for (int i = 1; i <= N; i++) {
                 data.add((long) (i * N));
-            
             }
-    
-            for (int i = 1; i <= N; i++) {
-                contains.add((long) rnd.nextInt(101) * N);
+
+            for (int v : snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, 0, 101))) {
+                contains.add((long) v * N);
             }
 
-            for (int i = 1; i <= N; i++) {
-                long e = (long) rnd.nextInt(N - min) - min;
-                filtering.add(e);
+            for (int v : snapshot.ints("filter", () -> Datasets.ints(seed, 2, N, N, 3 * N))) {
+                filtering.add((long) v);
             }
         }
     }
@@ -69,6 +75,16 @@ public class ArrayListLong {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveReduce(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Long> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -100,6 +116,23 @@ public class ArrayListLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> {
+            var values = IntStream.range(0, b.data.size()).parallel()
+                    .mapToLong(i -> ThreadLocalRandom.current().nextLong()).toArray();
+            Arrays.parallelPrefix(values, Long::sum);
+
+            return Arrays.stream(values).parallel().boxed().collect(Collectors.toCollection(ArrayList::new));
+        });
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitivePopulate(Bench b) {
+        var rnd = new Random();
+        return LongStream.iterate(rnd.nextLong(), i -> i + rnd.nextLong()).limit(b.data.size()).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public long lambdaIterate(Bench b) {
         return b.data.stream().filter(n -> n > 0).count();
@@ -131,6 +164,16 @@ public class ArrayListLong {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveIterate(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).filter(n -> n > 0).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.stream().anyMatch(n -> n == b.target);
@@ -156,6 +199,16 @@ public class ArrayListLong {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.stream().mapToLong(Long::longValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Long> lambdaFilter(Bench b) {
         return b.filtering.stream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new));
@@ -187,6 +240,16 @@ public class ArrayListLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filtering.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveFilter(Bench b) {
+        return b.filtering.stream().mapToLong(Long::longValue).filter(n -> n >= 0).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Long> lambdaCopy(Bench b) {
         return b.data.stream().map(n -> n).collect(Collectors.toCollection(ArrayList::new));
@@ -214,6 +277,16 @@ public class ArrayListLong {
         return copy;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveCopy(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public ArrayList<Long> lambdaMap(Bench b) {
         return b.data.stream().map(n -> n * b.N).collect(Collectors.toCollection(ArrayList::new));
@@ -240,4 +313,14 @@ public class ArrayListLong {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * b.N).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveMap(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).map(n -> n * b.N).toArray();
+    }
 }
\ No newline at end of file
@@ -3,11 +3,18 @@ package com.benchmarks.HashMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
 import com.benchmarks.Student;
+import com.benchmarks.StudentFormat;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+import com.benchmarks.data.Names;
 
 import org.openjdk.jmh.annotations.*;
 
@@ -17,54 +24,33 @@ public class HashMapClass {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
-        public List<String> firstNames = new ArrayList<String>(List.of(
-                // Simple Male
-                "Juan", "Carlos", "Manuel", "Francisco", "Mauricio", "Eduardo",
-                // Simple Female
-                "Fernanda", "María", "Sofía", "Ana", "Carla", "Marlene",
-                // Composite Male
-                "Juan Manuel", "Luis Carlos", "Manuel Alejandro", "Javier Francisco", "Luis Eduardo", "José Luis",
-                // Composite Female
-                "María Fernanda", "María Jose", "Sofía Paulina", "Ana Belén", "Daniela Alejandra", "Luz Angélica"));
-
-        public List<String> lastNames = new ArrayList<String>(List.of("García", "Rodríguez", "Hernández",
-                "López", "Martínez", "González", "Pérez", "Sánchez", "Ramírez", "Torres", "Flores", "Rivera", "Gómez",
-                "Díaz", "Cruz", "Morales", "Reyes", "Gutiérrez", "Ortiz"));
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
 
         public HashMap<String, Student> students;
         public ArrayList<Integer> range;
 
+        public StudentFormat reduceFormat = StudentFormat.compile("{key} : {firstName},{lastName} - {passed}");
+        public StudentFormat mapFormat = StudentFormat.compile("{lastName},{firstName} - {average}");
+
         @Setup(Level.Trial)
         public void setupData() {
-            var rnd = new Random();
-            var names = firstNames;
-            var surnames = lastNames;
-
-            int mnames = names.size();
-            int msurnames = surnames.size();
-            int max = 101;
-            int min = 50;
+            var snapshot = Snapshot.open(HashMapClass.class, N, seed, snapshots);
+            // ID = i * N in int arithmetic, as the populate benchmarks compute it.
+            var generated = snapshot.students("students", () -> Datasets.students(seed, 1, N, -50, 1, i -> i * N));
+            var keys = Datasets.studentKeys(generated);
 
-            range = new ArrayList<Integer>(N);
             students = new HashMap<String, Student>(N);
-
-            for (int i = 1; i <= N; i++) {
-                int n = i;
-                var student = new Student() {
-                    {
-                        average = rnd.nextInt(max - min) - min;
-                        ID = n * N;
-                        firstName = names.get(rnd.nextInt(mnames));
-                        lastName = surnames.get(rnd.nextInt(msurnames));
-                    }
-                };
-
-                var key = String.format("%d - %c%c%d", i, student.firstName.charAt(0), student.lastName.charAt(0),
-                        student.ID);
-
-                students.put(key, student);
+            for (int i = 0; i < N; i++) {
+                students.put(keys[i], generated[i]);
             }
-            
+
+            range = new ArrayList<Integer>(N);
             for (int i = 1; i <= N; i++) {
                 range.add(i);
             }
@@ -115,6 +101,26 @@ public class HashMapClass {
         return builder.toString();
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.keySet().parallelStream().map(k -> {
+            var student = b.students.get(k);
+            return String.format("%s : %s,%s - %s", k, student.firstName, student.lastName,
+                    (student.average > 60) ? Integer.toString(student.average) : "Failed");
+        }).collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString())).toString());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String formatterReduce(Bench b) {
+        var builder = new StringBuilder(b.students.size() * b.reduceFormat.estimatedLength());
+
+        for (var key : b.students.keySet()) {
+            b.reduceFormat.appendTo(builder, b.students.get(key), key);
+        }
+
+        return builder.toString();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<String, Student> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -210,6 +216,35 @@ public class HashMapClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> parallelPopulate(Bench b, ParallelPool p) {
+        var names = b.firstNames;
+        var surnames = b.lastNames;
+
+        int ncount = names.size();
+        int scount = surnames.size();
+        int max = 101;
+        int min = 50;
+
+        return p.invoke(() -> new HashMap<String, Student>(b.range.parallelStream().map(i -> {
+            var rnd = ThreadLocalRandom.current();
+            int n = i;
+            Student student = new Student() {
+                {
+                    average = rnd.nextInt(max - min) - min;
+                    ID = n * b.N;
+                    firstName = names.get(rnd.nextInt(ncount));
+                    lastName = surnames.get(rnd.nextInt(scount));
+                }
+            };
+
+            var key = String.format("%d - %c%c%d", i, student.firstName.charAt(0), student.lastName.charAt(0),
+                    student.ID);
+
+            return Map.entry(key, student);
+        }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         var map = b.students;
@@ -248,6 +283,13 @@ public class HashMapClass {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        var map = b.students;
+        return p.invoke(() -> (int) b.students.keySet().parallelStream().filter(k -> k.length() > 0 && k.contains("-")
+                && map.get(k).average >= 50 && map.get(k).ID < Long.MAX_VALUE).count());
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.students.values().stream().anyMatch(
@@ -283,6 +325,12 @@ public class HashMapClass {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.values().parallelStream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("ez")));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<String, Student> lambdaFilter(Bench b) {
         return new HashMap<String, Student>(b.students.entrySet().stream().filter(kvp -> 
@@ -322,6 +370,15 @@ public class HashMapClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<String, Student>(b.students.entrySet().parallelStream().filter(kvp -> 
+            kvp.getValue().average >= 70 &&
+            kvp.getValue().firstName.contains(" ") && 
+            kvp.getValue().lastName.contains(" ") &&
+            kvp.getValue().ID >= 0).collect(Collectors.toMap(kvp -> kvp.getKey(), kvp -> kvp.getValue()))));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<String, Student> lambdaCopy(Bench b) {
         return new HashMap<String, Student>(b.students.entrySet().stream().collect(Collectors.toMap(kvp -> kvp.getKey(), kvp -> kvp.getValue())));
@@ -370,6 +427,11 @@ public class HashMapClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<String, Student>(b.students.entrySet().parallelStream().collect(Collectors.toMap(kvp -> kvp.getKey(), kvp -> kvp.getValue()))));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Integer, String> lambdaMap(Bench b) {
         var num = new Object() { int i = 0; };
@@ -410,4 +472,28 @@ public class HashMapClass {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, String> parallelMap(Bench b, ParallelPool p) {
+        // Keys are positions in a snapshot of the values, so no thread updates a shared counter.
+        var values = b.students.values().toArray(new Student[0]);
+        return p.invoke(() -> new HashMap<Integer, String>(IntStream.range(0, values.length)
+            .parallel()
+            .boxed()
+            .collect(Collectors.toMap(
+                i -> i,
+                i -> String.format("%s,%s - %d", values[i].lastName, values[i].firstName, values[i].average)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, String> formatterMap(Bench b) {
+        var result = new HashMap<Integer, String>(b.students.size());
+        int i = 0;
+
+        for (var s : b.students.values()) {
+            result.put(i++, b.mapFormat.format(s));
+        }
+
+        return result;
+    }
 }
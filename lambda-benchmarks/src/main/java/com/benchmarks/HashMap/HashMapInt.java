@@ -2,10 +2,14 @@ package com.benchmarks.HashMap;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.primitive.IntIntHashMap;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class HashMapInt {
@@ -14,6 +18,10 @@ public class HashMapInt {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
         public HashMap<Integer, Integer> data;
         public HashMap<Integer, Integer> contains;
@@ -22,15 +30,12 @@ public class HashMapInt {
         
         @Setup(Level.Trial)
         public void setupData() {
-            var rnd = new Random();
-            int max = N;
-            int min = -N;
-            
+            var snapshot = Snapshot.open(HashMapInt.class, N, seed, snapshots);
             data = new HashMap<Integer, Integer>(N);
             range = new ArrayList<Integer>(N);
             contains = new HashMap<Integer, Integer>(N);
-            target = rnd.nextInt(max - min) - min;
-            
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+
             for (int i = 1; i <= N; i++) {
                 data.put(i, i * 10);
             }
@@ -38,10 +43,10 @@ public class HashMapInt {
             for (int i = 1; i <= N; i++) {
                 range.add(i);
             }
-            
-    
+
+            var values = snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, N, 3 * N));
             for (int i = 1; i <= N; i++) {
-                contains.put(i, rnd.nextInt(max - min) - min);
+                contains.put(i, values[i - 1]);
             }
         }
     }
@@ -73,6 +78,16 @@ public class HashMapInt {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.values().parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveReduce(Bench b) {
+        return b.data.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Integer, Integer> lambdaPopulate(Bench b) {
         return new HashMap<Integer, Integer>(b.range.stream().collect(Collectors.toMap(k -> k, v -> v * 5)));
@@ -100,6 +115,17 @@ public class HashMapInt {
         return map;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, Integer> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Integer, Integer>(b.range.parallelStream().collect(Collectors.toMap(k -> k, v -> v * 5))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap primitivePopulate(Bench b) {
+        return b.range.stream().mapToInt(Integer::intValue)
+                .collect(() -> new IntIntHashMap(b.N), (m, k) -> m.put(k, k * 5), IntIntHashMap::putAll);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         return (int) b.data.values().stream().filter(n -> n < Integer.MAX_VALUE).count();
@@ -133,6 +159,16 @@ public class HashMapInt {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.data.values().parallelStream().filter(n -> n < Integer.MAX_VALUE).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveIterate(Bench b) {
+        return (int) b.data.values().stream().mapToInt(Integer::intValue).filter(n -> n < Integer.MAX_VALUE).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.values().stream().anyMatch(n -> n == b.target);
@@ -162,6 +198,16 @@ public class HashMapInt {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.values().parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.values().stream().mapToInt(Integer::intValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Integer, Integer> lambdaFilter(Bench b) {
         return new HashMap<Integer, Integer>(b.data.keySet().stream().filter(k -> k % 2 == 0).collect(Collectors.toMap(k -> k, v -> v * 10)));
@@ -194,6 +240,17 @@ public class HashMapInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, Integer> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Integer, Integer>(b.data.keySet().parallelStream().filter(k -> k % 2 == 0).collect(Collectors.toMap(k -> k, v -> v * 10))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap primitiveFilter(Bench b) {
+        return b.data.keySet().stream().mapToInt(Integer::intValue).filter(k -> k % 2 == 0)
+                .collect(IntIntHashMap::new, (m, k) -> m.put(k, k * 10), IntIntHashMap::putAll);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Integer, Integer> lambdaCopy(Bench b) {
         var map = b.data;
@@ -223,6 +280,19 @@ public class HashMapInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, Integer> parallelCopy(Bench b, ParallelPool p) {
+        var map = b.data;
+        return p.invoke(() -> new HashMap<Integer, Integer>(map.keySet().parallelStream().collect(Collectors.toMap(k -> k, k -> map.get(k)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap primitiveCopy(Bench b) {
+        var map = b.data;
+        return map.keySet().stream().mapToInt(Integer::intValue)
+                .collect(() -> new IntIntHashMap(map.size()), (m, k) -> m.put(k, map.get(k)), IntIntHashMap::putAll);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Integer, Integer> lambdaMap(Bench b) {
         var map = b.data;
@@ -254,4 +324,17 @@ public class HashMapInt {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, Integer> parallelMap(Bench b, ParallelPool p) {
+        var map = b.data;
+        return p.invoke(() -> new HashMap<Integer, Integer>(map.keySet().parallelStream().collect(Collectors.toMap(k -> k * 10, k -> map.get(k) * 10))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap primitiveMap(Bench b) {
+        var map = b.data;
+        return map.keySet().stream().mapToInt(Integer::intValue)
+                .collect(() -> new IntIntHashMap(map.size()), (m, k) -> m.put(k * 10, map.get(k) * 10), IntIntHashMap::putAll);
+    }
 }
@@ -2,10 +2,14 @@ package com.benchmarks.HashMap;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.primitive.LongLongHashMap;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class HashMapLong {
@@ -14,6 +18,10 @@ public class HashMapLong {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public long target;
         public HashMap<Long, Long> data;
         public HashMap<Long, Long> contains;
@@ -21,6 +29,7 @@ public class HashMapLong {
 
         @Setup(Level.Trial)
         public void setupData() {
+            var snapshot = Snapshot.open(HashMapLong.class, N, seed, snapshots);
             data = new HashMap<Long, Long>(N);
             for (long i = 1; i <= N; i++) {
                 data.put(i * 10, i * N);
@@ -31,15 +40,12 @@ public class HashMapLong {
                 range.add(i);
             }
 
-            var rnd = new Random();
-            int max = N;
-            int min = -N;
-    
             contains = new HashMap<Long, Long>();
-            target = rnd.nextInt(max - min) - min;
-    
-            for (long i = 1; i <= N; i++) {
-                contains.put(i, (long)rnd.nextInt(max - min) - min);
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+
+            var values = snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, N, 3 * N));
+            for (int i = 1; i <= N; i++) {
+                contains.put((long) i, (long) values[i - 1]);
             }
         }
     }
@@ -71,6 +77,16 @@ public class HashMapLong {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.values().parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveReduce(Bench b) {
+        return b.data.values().stream().mapToLong(Long::longValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, Long> lambdaPopulate(Bench b) {
         return new HashMap<Long, Long>(b.range.stream().collect(Collectors.toMap(k -> k, v -> v * 5)));
@@ -98,6 +114,17 @@ public class HashMapLong {
         return map;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, Long> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, Long>(b.range.parallelStream().collect(Collectors.toMap(k -> k, v -> v * 5))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap primitivePopulate(Bench b) {
+        return b.range.stream().mapToLong(Long::longValue)
+                .collect(() -> new LongLongHashMap(b.N), (m, k) -> m.put(k, k * 5), LongLongHashMap::putAll);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public long lambdaIterate(Bench b) {
         return b.data.values().stream().filter(n -> n < Long.MAX_VALUE).count();
@@ -129,6 +156,16 @@ public class HashMapLong {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.values().parallelStream().filter(n -> n < Long.MAX_VALUE).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveIterate(Bench b) {
+        return b.data.values().stream().mapToLong(Long::longValue).filter(n -> n < Long.MAX_VALUE).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.values().stream().anyMatch(n -> n == b.target);
@@ -157,6 +194,16 @@ public class HashMapLong {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.values().parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.values().stream().mapToLong(Long::longValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, Long> lambdaFilter(Bench b) {
         return new HashMap<Long, Long>(b.data.keySet().stream().filter(k -> k % 2 == 0).collect(Collectors.toMap(k -> k, v -> v * 10)));
@@ -189,6 +236,17 @@ public class HashMapLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, Long> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, Long>(b.data.keySet().parallelStream().filter(k -> k % 2 == 0).collect(Collectors.toMap(k -> k, v -> v * 10))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap primitiveFilter(Bench b) {
+        return b.data.keySet().stream().mapToLong(Long::longValue).filter(k -> k % 2 == 0)
+                .collect(LongLongHashMap::new, (m, k) -> m.put(k, k * 10), LongLongHashMap::putAll);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, Long> lambdaCopy(Bench b) {
         var map = b.data;
@@ -218,6 +276,19 @@ public class HashMapLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, Long> parallelCopy(Bench b, ParallelPool p) {
+        var map = b.data;
+        return p.invoke(() -> new HashMap<Long, Long>(map.keySet().parallelStream().collect(Collectors.toMap(k -> k, k -> map.get(k)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap primitiveCopy(Bench b) {
+        var map = b.data;
+        return map.keySet().stream().mapToLong(Long::longValue)
+                .collect(() -> new LongLongHashMap(map.size()), (m, k) -> m.put(k, map.get(k)), LongLongHashMap::putAll);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, Long> lambdaMap(Bench b) {
         var map = b.data;
@@ -249,4 +320,17 @@ public class HashMapLong {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, Long> parallelMap(Bench b, ParallelPool p) {
+        var map = b.data;
+        return p.invoke(() -> new HashMap<Long, Long>(map.keySet().parallelStream().collect(Collectors.toMap(k -> k * 10, k -> map.get(k) * 10))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap primitiveMap(Bench b) {
+        var map = b.data;
+        return map.keySet().stream().mapToLong(Long::longValue)
+                .collect(() -> new LongLongHashMap(map.size()), (m, k) -> m.put(k * 10, map.get(k) * 10), LongLongHashMap::putAll);
+    }
 }
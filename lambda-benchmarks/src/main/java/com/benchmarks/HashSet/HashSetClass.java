@@ -1,14 +1,21 @@
 package com.benchmarks.HashSet;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
 import com.benchmarks.Student;
+import com.benchmarks.StudentFormat;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+import com.benchmarks.data.Names;
 
 import org.openjdk.jmh.annotations.*;
 public class HashSetClass {
@@ -17,46 +24,28 @@ public class HashSetClass {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
 
         public HashSet<Student> students;
         public ArrayList<Integer> range;
 
-        public List<String> firstNames = new ArrayList<String>(List.of(
-                // Simple Male
-                "Juan", "Carlos", "Manuel", "Francisco", "Mauricio", "Eduardo",
-                // Simple Female
-                "Fernanda", "María", "Sofía", "Ana", "Carla", "Marlene",
-                // Composite Male
-                "Juan Manuel", "Luis Carlos", "Manuel Alejandro", "Javier Francisco", "Luis Eduardo", "José Luis",
-                // Composite Female
-                "María Fernanda", "María Jose", "Sofía Paulina", "Ana Belén", "Daniela Alejandra", "Luz Angélica"));
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
 
-        public List<String> lastNames = new ArrayList<String>(List.of("García", "Rodríguez", "Hernández",
-                "López", "Martínez", "González", "Pérez", "Sánchez", "Ramírez", "Torres", "Flores", "Rivera", "Gómez",
-                "Díaz", "Cruz", "Morales", "Reyes", "Gutiérrez", "Ortiz"));
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        public StudentFormat reduceFormat = StudentFormat.compile("{lastName}, {firstName}, {passed}");
+        public StudentFormat mapFormat = StudentFormat.compile("{lastName}, {firstName}");
 
         @Setup(Level.Trial)
         public void setupData() {
-            var rnd = new Random();
-            int maxF = firstNames.size();
-            int maxL = lastNames.size();
-
-            target = rnd.nextInt(N - (-N)) - N;
+            var snapshot = Snapshot.open(HashSetClass.class, N, seed, snapshots);
+            target = Datasets.random(seed, 0).nextInt(-N, N);
             students = new HashSet<Student>(N);
-
-            for (int i = 1; i <= N; i++) {
-                var s = new Student() {
-                    {
-                        average = rnd.nextInt(100 - 50) - 50;
-                        ID = rnd.nextLong();
-                        firstName = firstNames.get(rnd.nextInt(maxF));
-                        lastName = lastNames.get(rnd.nextInt(maxL));
-                    }
-                };
-
-                students.add(s);
-            }
+            Collections.addAll(students, snapshot.students("students", () -> Datasets.students(seed, 1, N, -50, 0)));
 
             range = new ArrayList<Integer>(N);
             for (int i = 1; i <= N; i++) {
@@ -102,6 +91,26 @@ public class HashSetClass {
         return sb.toString();
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String formatterReduce(Bench b) {
+        var sb = new StringBuilder(b.students.size() * b.reduceFormat.estimatedLength());
+
+        for (var s : b.students) {
+            b.reduceFormat.appendTo(sb, s);
+        }
+
+        return sb.toString();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Student> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -163,6 +172,24 @@ public class HashSetClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Student> parallelPopulate(Bench b, ParallelPool p) {
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        return p.invoke(() -> b.range.parallelStream().map(i -> {
+            var rnd = ThreadLocalRandom.current();
+            return new Student() {
+                {
+                    firstName = b.firstNames.get(rnd.nextInt(maxF));
+                    lastName = b.lastNames.get(rnd.nextInt(maxL));
+                    average = rnd.nextInt(100 - 50) - 50;
+                    ID = i + rnd.nextLong();
+                }
+            };
+        }).collect(Collectors.toCollection(HashSet::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         return (int) b.students.stream()
@@ -196,6 +223,12 @@ public class HashSetClass {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.students.parallelStream()
+                .filter(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE).count());
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.students.stream().anyMatch(
@@ -226,6 +259,12 @@ public class HashSetClass {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Student> lambdaFilter(Bench b) {
         return b.students.stream()
@@ -260,6 +299,13 @@ public class HashSetClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(HashSet::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Student> lambdaCopy(Bench b) {
         return b.students.stream().map(s -> new Student() {
@@ -309,6 +355,18 @@ public class HashSetClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Student> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().map(s -> new Student() {
+            {
+                average = s.average;
+                ID = s.ID;
+                firstName = s.firstName;
+                lastName = s.lastName;
+            }
+        }).collect(Collectors.toCollection(HashSet::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, String> lambdaMap(Bench b) {
         return new HashMap<Long, String>(b.students.stream()
@@ -341,4 +399,20 @@ public class HashSetClass {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.students.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> formatterMap(Bench b) {
+        var result = new HashMap<Long, String>(b.students.size());
+        for (var s : b.students) {
+            result.put(s.ID, b.mapFormat.format(s));
+        }
+
+        return result;
+    }
 }
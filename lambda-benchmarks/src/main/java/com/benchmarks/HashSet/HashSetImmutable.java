@@ -0,0 +1,291 @@
+package com.benchmarks.HashSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ImmutableStudent;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashSetClass with ImmutableStudent elements. Compare with -prof gc (gc.alloc.rate.norm per
+// element) and -prof cl (classes loaded): every double-brace site in HashSetClass's populate benchmarks
+// is its own class. The read benchmarks wrap the same Datasets students that HashSetClass reads
+// as plain Student instances.
+public class HashSetImmutable {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+
+        public HashSet<ImmutableStudent> students;
+        public ArrayList<Integer> range;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = new HashSet<ImmutableStudent>(N);
+            for (var s : Datasets.students(seed, 1, N, -50, 0)) {
+                students.add(ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName));
+            }
+
+            range = new ArrayList<Integer>(N);
+            for (int i = 1; i <= N; i++) {
+                range.add(i);
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String lambdaReduce(Bench b) {
+        return b.students.stream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var sb = new StringBuilder();
+        var iter = b.students.iterator();
+
+        while (iter.hasNext()) {
+            var s = iter.next();
+            var average = s.average;
+            var passed = average > 60 ? Integer.toString(average) : "Failed";
+            sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String iteratorReduce(Bench b) {
+        var sb = new StringBuilder();
+
+        for (var s : b.students) {
+            var average = s.average;
+            var passed = average > 60 ? Integer.toString(average) : "Failed";
+            sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> lambdaPopulate(Bench b) {
+        var rnd = new Random();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        return b.range.stream().map(i -> ImmutableStudent.of(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> loopPopulate(Bench b) {
+        var rnd = new Random();
+        var result = new HashSet<ImmutableStudent>(b.range.size());
+
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        for (int i = 0; i < b.range.size(); i++) {
+            result.add(ImmutableStudent.of(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                    b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> iteratorPopulate(Bench b) {
+        var rnd = new Random();
+        var result = new HashSet<ImmutableStudent>(b.range.size());
+
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        for (var s : b.range) {
+            result.add(ImmutableStudent.of(rnd.nextInt(100 - 50) - 50, s + rnd.nextLong(),
+                    b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        return (int) b.students.stream()
+                .filter(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        int count = 0;
+        var iter = b.students.iterator();
+
+        while (iter.hasNext()) {
+            var s = iter.next();
+            if (s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iteratorIterate(Bench b) {
+        int count = 0;
+        for (var s : b.students) {
+            if (s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.students.stream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es"));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        var iter = b.students.iterator();
+        while (iter.hasNext()) {
+            var s = iter.next();
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorContains(Bench b) {
+        for (var s : b.students) {
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> lambdaFilter(Bench b) {
+        return b.students.stream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> loopFilter(Bench b) {
+        var result = new HashSet<ImmutableStudent>(b.students.size());
+        var iter = b.students.iterator();
+
+        while (iter.hasNext()) {
+            var s = iter.next();
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> iteratorFilter(Bench b) {
+        var result = new HashSet<ImmutableStudent>(b.students.size());
+        for (var s : b.students) {
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> lambdaCopy(Bench b) {
+        return b.students.stream().map(s -> ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> loopCopy(Bench b) {
+        var result = new HashSet<ImmutableStudent>(b.students.size());
+        var iter = b.students.iterator();
+
+        while (iter.hasNext()) {
+            var s = iter.next();
+            result.add(ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<ImmutableStudent> iteratorCopy(Bench b) {
+        var result = new HashSet<ImmutableStudent>(b.students.size());
+        for (var s : b.students) {
+            result.add(ImmutableStudent.of(s.average, s.ID, s.firstName, s.lastName));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> lambdaMap(Bench b) {
+        return new HashMap<Long, String>(b.students.stream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName))));
+
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        var result = new HashMap<Long, String>(b.students.size());
+        var iter = b.students.iterator();
+
+        while (iter.hasNext()) {
+            var s = iter.next();
+            var value = String.format("%s, %s", s.lastName, s.firstName);
+
+            result.put(s.ID, value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> iteratorMap(Bench b) {
+        var result = new HashMap<Long, String>(b.students.size());
+        for (var s : b.students) {
+            var value = String.format("%s, %s", s.lastName, s.firstName);
+            result.put(s.ID, value);
+        }
+
+        return result;
+    }
+}
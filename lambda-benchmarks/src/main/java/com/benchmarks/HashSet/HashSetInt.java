@@ -2,10 +2,13 @@ package com.benchmarks.HashSet;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class HashSetInt {
@@ -14,6 +17,10 @@ public class HashSetInt {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
         public HashSet<Integer> data;
         public HashSet<Integer> contains;
@@ -22,6 +29,7 @@ public class HashSetInt {
 
         @Setup(Level.Trial)
         public void setupData() {
+            var snapshot = Snapshot.open(HashSetInt.class, N, seed, snapshots);
             data = new HashSet<Integer>(N);
             for (int i = 1; i <= N; i++) {
                 data.add(i);
@@ -32,23 +40,16 @@ public class HashSetInt {
                 range.add(i);
             }
 
-            var max = N;
-            var min = -N;
-            var rnd = new Random();
-            
             contains = new HashSet<Integer>(N);
-            target = rnd.nextInt(max - min) - min;
-    
-            for (int i = 1; i <= N; i++) {
-                contains.add(rnd.nextInt(max - min) - min);
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+
+            for (int v : snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, N, 3 * N))) {
+                contains.add(v);
             }
 
-            int maxf = N;
-            int minf = -N;
-    
             filter = new HashSet<Integer>(N);
-            for (int i = 1; i <= N; i++) {
-                data.add(rnd.nextInt(maxf - minf) - minf);
+            for (int v : snapshot.ints("filter", () -> Datasets.ints(seed, 2, N, N, 3 * N))) {
+                data.add(v);
             }
         }
     }
@@ -81,6 +82,16 @@ public class HashSetInt {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveReduce(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Integer> lambdaPopulate(Bench b) {
         return b.range.stream().map(i -> i + i).collect(Collectors.toCollection(HashSet::new));
@@ -109,6 +120,16 @@ public class HashSetInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.range.parallelStream().map(i -> i + i).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitivePopulate(Bench b) {
+        return b.range.stream().mapToInt(i -> i + i).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         return (int) b.data.stream().filter(n -> n > 0).count();
@@ -138,6 +159,16 @@ public class HashSetInt {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveIterate(Bench b) {
+        return (int) b.data.stream().mapToInt(Integer::intValue).filter(n -> n > 0).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.stream().anyMatch(n -> n == b.target);
@@ -164,6 +195,16 @@ public class HashSetInt {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.stream().mapToInt(Integer::intValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Integer> lambdaFilter(Bench b) {
         return b.filter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(HashSet::new));
@@ -193,6 +234,16 @@ public class HashSetInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filter.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveFilter(Bench b) {
+        return b.filter.stream().mapToInt(Integer::intValue).filter(n -> n >= 0).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Integer> lambdaCopy(Bench b) {
         return b.data.stream().map(n -> n).collect(Collectors.toCollection(HashSet::new));
@@ -220,6 +271,16 @@ public class HashSetInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveCopy(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Integer> lambdaMap(Bench b) {
         return b.data.stream().map(n -> n * n).collect(Collectors.toCollection(HashSet::new));
@@ -247,4 +308,14 @@ public class HashSetInt {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * n).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveMap(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).map(n -> n * n).toArray();
+    }
 }
@@ -0,0 +1,129 @@
+package com.benchmarks.HashSet;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.primitive.IntHashSet;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+public class HashSetIntContains {
+    private static final int BATCH = 64;
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public Integer boxedTarget;
+        public HashSet<Integer> contains;
+        public IntHashSet primitive;
+        public int[] probes;
+        public Integer[] boxedProbes;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            contains = new HashSet<Integer>(N);
+            primitive = new IntHashSet(N);
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+            boxedTarget = target;
+
+            for (int value : Datasets.ints(seed, 1, N, N, 3 * N)) {
+                contains.add(value);
+                primitive.add(value);
+            }
+
+            probes = Datasets.ints(seed, 2, BATCH, N, 3 * N);
+            boxedProbes = new Integer[BATCH];
+
+            for (int i = 0; i < BATCH; i++) {
+                boxedProbes[i] = probes[i];
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean hashContains(Bench b) {
+        return b.contains.contains(b.boxedTarget);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.primitive.contains(b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaScanContains(Bench b) {
+        return b.contains.stream().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopScanContains(Bench b) {
+        var iter = b.contains.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.next() == b.target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorScanContains(Bench b) {
+        for (var value : b.contains) {
+            if (value == b.target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int hashContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.boxedProbes) {
+            if (b.contains.contains(probe)) hits++;
+        }
+
+        return hits;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int primitiveContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.probes) {
+            if (b.primitive.contains(probe)) hits++;
+        }
+
+        return hits;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int lambdaScanContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.probes) {
+            if (b.contains.stream().anyMatch(n -> n == probe)) hits++;
+        }
+
+        return hits;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int loopScanContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.probes) {
+            var iter = b.contains.iterator();
+
+            while (iter.hasNext()) {
+                if (iter.next() == probe) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+
+        return hits;
+    }
+}
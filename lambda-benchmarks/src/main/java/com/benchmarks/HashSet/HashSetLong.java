@@ -2,10 +2,13 @@ package com.benchmarks.HashSet;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class HashSetLong {
@@ -14,6 +17,10 @@ public class HashSetLong {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public long target;
         public HashSet<Long> data;
         public HashSet<Long> contains;
@@ -22,6 +29,7 @@ public class HashSetLong {
 
         @Setup(Level.Trial)
         public void setupData() {
+            var snapshot = Snapshot.open(HashSetLong.class, N, seed, snapshots);
             data = new HashSet<Long>(N);
             for (int i = 1; i <= N; i++) {
                 data.add((long) (i * N));
@@ -32,21 +40,16 @@ public class HashSetLong {
                 data.add((long) i);
             }
 
-            var rnd = new Random();
-            target = (long) rnd.nextInt(101) * N;
+            target = (long) Datasets.random(seed, 0).nextInt(101) * N;
             contains = new HashSet<Long>(N);
-    
-            for (int i = 1; i <= N; i++) {
-                contains.add((long) rnd.nextInt(101) * N);
+
+            for (int v : snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, 0, 101))) {
+                contains.add((long) v * N);
             }
 
-            int max = N;
-            int min = -N;
-    
             filter = new HashSet<Long>(N);
-            for (int i = 1; i <= N; i++) {
-                long e = (long) rnd.nextInt(max - min) - min;
-                data.add(e);
+            for (int v : snapshot.ints("filter", () -> Datasets.ints(seed, 2, N, N, 3 * N))) {
+                data.add((long) v);
             }
         }
     }
@@ -79,6 +82,16 @@ public class HashSetLong {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveReduce(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Long> lambdaPopulate(Bench b) {
         return b.range.stream().map(i -> i + i).collect(Collectors.toCollection(HashSet::new));
@@ -107,6 +120,16 @@ public class HashSetLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Long> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.range.parallelStream().map(i -> i + i).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitivePopulate(Bench b) {
+        return b.range.stream().mapToLong(i -> i + i).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public long lambdaIterate(Bench b) {
         return b.data.stream().filter(n -> n > 0).count();
@@ -137,6 +160,16 @@ public class HashSetLong {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveIterate(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).filter(n -> n > 0).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.stream().anyMatch(n -> n == b.target);
@@ -166,6 +199,16 @@ public class HashSetLong {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.stream().mapToLong(Long::longValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Long> lambdaFilter(Bench b) {
         return b.filter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(HashSet::new));
@@ -198,6 +241,16 @@ public class HashSetLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Long> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filter.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveFilter(Bench b) {
+        return b.filter.stream().mapToLong(Long::longValue).filter(n -> n >= 0).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Long> lambdaCopy(Bench b) {
         return b.data.stream().map(n -> n).collect(Collectors.toCollection(HashSet::new));
@@ -226,6 +279,16 @@ public class HashSetLong {
         return copy;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Long> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveCopy(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashSet<Long> lambdaMap(Bench b) {
         return b.data.stream().map(n -> n * 10).collect(Collectors.toCollection(HashSet::new));
@@ -254,4 +317,14 @@ public class HashSetLong {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Long> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * 10).collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveMap(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).map(n -> n * 10).toArray();
+    }
 }
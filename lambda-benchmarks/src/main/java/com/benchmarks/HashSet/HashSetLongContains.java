@@ -0,0 +1,132 @@
+package com.benchmarks.HashSet;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.primitive.LongHashSet;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+public class HashSetLongContains {
+    private static final int BATCH = 64;
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public long target;
+        public Long boxedTarget;
+        public HashSet<Long> contains;
+        public LongHashSet primitive;
+        public long[] probes;
+        public Long[] boxedProbes;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            target = (long) Datasets.random(seed, 0).nextInt(101) * N;
+            boxedTarget = target;
+            contains = new HashSet<Long>(N);
+            primitive = new LongHashSet(N);
+
+            for (int v : Datasets.ints(seed, 1, N, 0, 101)) {
+                var value = (long) v * N;
+                contains.add(value);
+                primitive.add(value);
+            }
+
+            probes = new long[BATCH];
+            boxedProbes = new Long[BATCH];
+
+            var values = Datasets.ints(seed, 2, BATCH, 0, 202);
+            for (int i = 0; i < BATCH; i++) {
+                probes[i] = (long) values[i] * N;
+                boxedProbes[i] = probes[i];
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean hashContains(Bench b) {
+        return b.contains.contains(b.boxedTarget);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.primitive.contains(b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaScanContains(Bench b) {
+        return b.contains.stream().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopScanContains(Bench b) {
+        var iter = b.contains.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.next() == b.target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorScanContains(Bench b) {
+        for (var value : b.contains) {
+            if (value == b.target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int hashContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.boxedProbes) {
+            if (b.contains.contains(probe)) hits++;
+        }
+
+        return hits;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int primitiveContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.probes) {
+            if (b.primitive.contains(probe)) hits++;
+        }
+
+        return hits;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int lambdaScanContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.probes) {
+            if (b.contains.stream().anyMatch(n -> n == probe)) hits++;
+        }
+
+        return hits;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) @OperationsPerInvocation(BATCH)
+    public int loopScanContainsBatch(Bench b) {
+        int hits = 0;
+        for (var probe : b.probes) {
+            var iter = b.contains.iterator();
+
+            while (iter.hasNext()) {
+                if (iter.next() == probe) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+
+        return hits;
+    }
+}
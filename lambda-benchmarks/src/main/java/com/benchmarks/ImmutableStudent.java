@@ -0,0 +1,25 @@
+package com.benchmarks;
+
+/**
+ * Final, immutable counterpart of {@link Student}. Unlike the double-brace
+ * {@code new Student() {{ ... }}} idiom, creating one does not define an anonymous subclass
+ * per call site, so every instance has the same exact class and carries no captured outer
+ * references. Equality stays identity based, as with {@link Student}.
+ */
+public final class ImmutableStudent {
+    public final int average;
+    public final long ID;
+    public final String firstName;
+    public final String lastName;
+
+    private ImmutableStudent(int average, long ID, String firstName, String lastName) {
+        this.average = average;
+        this.ID = ID;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public static ImmutableStudent of(int average, long ID, String firstName, String lastName) {
+        return new ImmutableStudent(average, ID, firstName, lastName);
+    }
+}
@@ -0,0 +1,224 @@
+package com.benchmarks.LinkedList;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Append-only linked list that also records the head node of every chunk of
+ * {@code chunkSize} nodes. Its spliterator splits on chunk boundaries, so a split is an
+ * index lookup into the chunk table rather than a walk, and both halves get the same
+ * number of chunks. {@link java.util.LinkedList}'s spliterator instead copies batches of
+ * growing size into arrays, which keeps most of the work on the thread that splits.
+ */
+public class ChunkedLinkedList<E> extends AbstractCollection<E> {
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final class Node<E> {
+        final E item;
+        Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    private final int chunkSize;
+    private Node<E> head;
+    private Node<E> tail;
+    private Node<E>[] chunks;
+    private int size;
+    private int modCount;
+
+    public ChunkedLinkedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ChunkedLinkedList(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+
+        this.chunkSize = chunkSize;
+        this.chunks = (Node<E>[]) new Node<?>[8];
+    }
+
+    @Override
+    public boolean add(E item) {
+        var node = new Node<E>(item);
+
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+
+        if (size % chunkSize == 0) {
+            int chunk = size / chunkSize;
+            if (chunk == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+
+            chunks[chunk] = node;
+        }
+
+        tail = node;
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        var node = chunks[index / chunkSize];
+
+        for (int i = index % chunkSize; i > 0; i--) {
+            node = node.next;
+        }
+
+        return node.item;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(chunks, 0, (size + chunkSize - 1) / chunkSize, null);
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            Node<E> next = head;
+            final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                var item = next.item;
+                next = next.next;
+
+                return item;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ChunkSpliterator(0, (size + chunkSize - 1) / chunkSize, size, modCount);
+    }
+
+    // Covers chunks [fromChunk, toChunk); the last chunk of the list may be partial.
+    private final class ChunkSpliterator implements Spliterator<E> {
+        private int fromChunk;
+        private final int toChunk;
+        private final int end;
+        private final int expectedModCount;
+        private Node<E> current;
+        private int remaining = -1;
+
+        ChunkSpliterator(int fromChunk, int toChunk, int end, int expectedModCount) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.end = end;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (remaining >= 0 || toChunk - fromChunk < 2) {
+                return null;
+            }
+
+            int mid = (fromChunk + toChunk) >>> 1;
+            var prefix = new ChunkSpliterator(fromChunk, mid, mid * chunkSize, expectedModCount);
+            fromChunk = mid;
+
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            start();
+
+            if (remaining == 0) {
+                return false;
+            }
+
+            var item = current.item;
+            current = current.next;
+            remaining--;
+            action.accept(item);
+            checkForComodification();
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            start();
+
+            var node = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.item);
+                node = node.next;
+            }
+
+            current = node;
+            remaining = 0;
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining >= 0 ? remaining : end - fromChunk * chunkSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void start() {
+            if (remaining < 0) {
+                checkForComodification();
+                remaining = Math.max(0, end - fromChunk * chunkSize);
+                current = remaining > 0 ? chunks[fromChunk] : null;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
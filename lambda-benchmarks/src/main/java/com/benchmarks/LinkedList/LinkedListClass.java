@@ -1,14 +1,21 @@
 package com.benchmarks.LinkedList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
 import com.benchmarks.Student;
+import com.benchmarks.StudentFormat;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+import com.benchmarks.data.Names;
 
 import org.openjdk.jmh.annotations.*;
 
@@ -18,46 +25,27 @@ public class LinkedListClass {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
         public LinkedList<Student> students;
         public LinkedList<Integer> data;
 
-        public List<String> firstNames = new ArrayList<String>(List.of(
-                // Simple Male
-                "Juan", "Carlos", "Manuel", "Francisco", "Mauricio", "Eduardo",
-                // Simple Female
-                "Fernanda", "María", "Sofía", "Ana", "Carla", "Marlene",
-                // Composite Male
-                "Juan Manuel", "Luis Carlos", "Manuel Alejandro", "Javier Francisco", "Luis Eduardo", "José Luis",
-                // Composite Female
-                "María Fernanda", "María Jose", "Sofía Paulina", "Ana Belén", "Daniela Alejandra", "Luz Angélica"));
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
 
-        public List<String> lastNames = new ArrayList<String>(List.of("García", "Rodríguez", "Hernández",
-                "López", "Martínez", "González", "Pérez", "Sánchez", "Ramírez", "Torres", "Flores", "Rivera", "Gómez",
-                "Díaz", "Cruz", "Morales", "Reyes", "Gutiérrez", "Ortiz"));
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
 
 
+        public StudentFormat reduceFormat = StudentFormat.compile("{lastName}, {firstName}, {passed}");
+        public StudentFormat mapFormat = StudentFormat.compile("{lastName}, {firstName}");
+
         @Setup(Level.Trial)
         public void setupStudents() {
-            var rnd = new Random();
-            int maxF = firstNames.size();
-            int maxL = lastNames.size();
-
-            students = new LinkedList<Student>();
-            target = rnd.nextInt((N / 2)) - 1;
-
-            for (int i = 1; i <= N; i++) {
-                var s = new Student() {
-                    {
-                        average = rnd.nextInt(100 - 50) - 50;
-                        ID = rnd.nextLong();
-                        firstName = firstNames.get(rnd.nextInt(maxF));
-                        lastName = lastNames.get(rnd.nextInt(maxL));
-                    }
-                };
-
-                students.add(s);
-            }
+            var snapshot = Snapshot.open(LinkedListClass.class, N, seed, snapshots);
+            target = Datasets.random(seed, 0).nextInt(-1, N / 2 - 1);
+            students = new LinkedList<Student>(Arrays.asList(snapshot.students("students", () -> Datasets.students(seed, 1, N, -50, 0))));
 
             data = new LinkedList<Integer>();
             for (int i = 1; i <= N; i++) {
@@ -103,6 +91,26 @@ public class LinkedListClass {
         return builder.toString();
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String formatterReduce(Bench b) {
+        var builder = new StringBuilder(b.students.size() * b.reduceFormat.estimatedLength());
+
+        for (var s : b.students) {
+            b.reduceFormat.appendTo(builder, s);
+        }
+
+        return builder.toString();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Student> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -168,6 +176,24 @@ public class LinkedListClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Student> parallelPopulate(Bench b, ParallelPool p) {
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        return p.invoke(() -> b.data.parallelStream().map(i -> {
+            var rnd = ThreadLocalRandom.current();
+            return new Student() {
+                {
+                    firstName = b.firstNames.get(rnd.nextInt(maxF));
+                    lastName = b.lastNames.get(rnd.nextInt(maxL));
+                    average = rnd.nextInt(100 - 50) - 50;
+                    ID = i + rnd.nextLong();
+                }
+            };
+        }).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         return (int) b.students.stream()
@@ -201,6 +227,12 @@ public class LinkedListClass {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.students.parallelStream()
+                .filter(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE).count());
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.students.stream().anyMatch(
@@ -231,6 +263,12 @@ public class LinkedListClass {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Student> lambdaFilter(Bench b) {
         return b.students.stream()
@@ -265,6 +303,13 @@ public class LinkedListClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(LinkedList::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Student> lambdaCopy(Bench b) {
         return b.students.stream().map(s -> new Student() {
@@ -315,6 +360,18 @@ public class LinkedListClass {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Student> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().map(s -> new Student() {
+            {
+                average = s.average;
+                ID = s.ID;
+                firstName = s.firstName;
+                lastName = s.lastName;
+            }
+        }).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public HashMap<Long, String> lambdaMap(Bench b) {
         return new HashMap<Long, String>(b.students.stream()
@@ -344,4 +401,20 @@ public class LinkedListClass {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.students.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> formatterMap(Bench b) {
+        var result = new HashMap<Long, String>(b.students.size());
+        for (var s : b.students) {
+            result.put(s.ID, b.mapFormat.format(s));
+        }
+
+        return result;
+    }
 }
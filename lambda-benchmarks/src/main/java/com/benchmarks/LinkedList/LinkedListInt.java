@@ -1,10 +1,16 @@
 package com.benchmarks.LinkedList;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class LinkedListInt {
@@ -13,6 +19,10 @@ public class LinkedListInt {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public int target;
         public LinkedList<Integer> data;
         public LinkedList<Integer> contains;
@@ -20,28 +30,22 @@ public class LinkedListInt {
 
         @Setup(Level.Trial)
         public void setupData() {
+            var snapshot = Snapshot.open(LinkedListInt.class, N, seed, snapshots);
             data = new LinkedList<Integer>();
             for (int i = 1; i <= N; i++) {
                 data.add(i);
             }
-            
+
+            target = Datasets.random(seed, 0).nextInt(-1, 99);
+
             contains = new LinkedList<Integer>();
-            var max = 101;
-            var min = 1;
-            var rnd = new Random();
-    
-            target = rnd.nextInt(max - min) - min;
-    
-            for (int i = 1; i <= N; i++) {
-                contains.add(rnd.nextInt(max - min) - min);
+            for (int v : snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, -1, 99))) {
+                contains.add(v);
             }
-            
+
             filter = new LinkedList<Integer>();
-            int maxf = N;
-            int minf = -N;
-    
-            for (int i = 1; i <= N; i++) {
-                filter.add(rnd.nextInt(maxf - minf) - minf);
+            for (int v : snapshot.ints("filter", () -> Datasets.ints(seed, 2, N, N, 3 * N))) {
+                filter.add(v);
             }
         }
     }
@@ -73,6 +77,16 @@ public class LinkedListInt {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveReduce(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Integer> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -105,6 +119,23 @@ public class LinkedListInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Integer> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> {
+            var values = IntStream.range(0, b.data.size()).parallel()
+                    .map(i -> ThreadLocalRandom.current().nextInt(101)).toArray();
+            Arrays.parallelPrefix(values, Integer::sum);
+
+            return Arrays.stream(values).parallel().boxed().collect(Collectors.toCollection(LinkedList::new));
+        });
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitivePopulate(Bench b) {
+        var rnd = new Random();
+        return IntStream.iterate(rnd.nextInt(101), i -> i + rnd.nextInt(101)).limit(b.data.size()).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public int lambdaIterate(Bench b) {
         return (int) b.data.stream().filter(n -> n > 0).count();
@@ -134,6 +165,16 @@ public class LinkedListInt {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int primitiveIterate(Bench b) {
+        return (int) b.data.stream().mapToInt(Integer::intValue).filter(n -> n > 0).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.stream().anyMatch(n -> n == b.target);
@@ -163,6 +204,16 @@ public class LinkedListInt {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.stream().mapToInt(Integer::intValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Integer> lambdaFilter(Bench b) {
         return b.filter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(LinkedList::new));
@@ -193,6 +244,16 @@ public class LinkedListInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Integer> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filter.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveFilter(Bench b) {
+        return b.filter.stream().mapToInt(Integer::intValue).filter(n -> n >= 0).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Integer> lambdaCopy(Bench b) {
         return b.data.stream().map(n -> n).collect(Collectors.toCollection(LinkedList::new));
@@ -220,6 +281,16 @@ public class LinkedListInt {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Integer> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveCopy(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Integer> lambdaMap(Bench b) {
         return b.data.stream().map(n -> n * n).collect(Collectors.toCollection(LinkedList::new));
@@ -247,4 +318,14 @@ public class LinkedListInt {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Integer> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * n).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] primitiveMap(Bench b) {
+        return b.data.stream().mapToInt(Integer::intValue).map(n -> n * n).toArray();
+    }
 }
@@ -1,10 +1,16 @@
 package com.benchmarks.LinkedList;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.*;
 
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Snapshot;
+
 import org.openjdk.jmh.annotations.*;
 
 public class LinkedListLong {
@@ -13,6 +19,10 @@ public class LinkedListLong {
     public static class Bench {
         @Param({"100","1000","10000","100000","1000000"})
         public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false"})
+        public boolean snapshots;
         public long target;
         public LinkedList<Long> data;
         public LinkedList<Long> contains;
@@ -20,29 +30,22 @@ public class LinkedListLong {
 
         @Setup(Level.Trial)
         public void setupData() {
-            var rnd = new Random();
+            var snapshot = Snapshot.open(LinkedListLong.class, N, seed, snapshots);
             data = new LinkedList<Long>();
-
             for (int i = 1; i <= N; i++) {
                 data.add((long) i * N);
             }
-            
+
             contains = new LinkedList<Long>();
-            int max = 101;
-            int min = 1;
-    
-            target = (long) rnd.nextInt(max - min) - min;
-    
-            for (int i = 1; i <= N; i++) {
-                contains.add(N * (long) rnd.nextInt(max - min) - min);
+            target = (long) Datasets.random(seed, 0).nextInt(-1, 99);
+
+            for (int v : snapshot.ints("contains", () -> Datasets.ints(seed, 1, N, 0, 100))) {
+                contains.add(N * (long) v - 1);
             }
-            
+
             filter = new LinkedList<Long>();
-            int maxf = N;
-            int minf = -N;
-    
-            for (int i = 1; i <= N; i++) {
-                data.add((long) rnd.nextInt(maxf - minf) - minf);
+            for (int v : snapshot.ints("filter", () -> Datasets.ints(seed, 2, N, N, 3 * N))) {
+                data.add((long) v);
             }
         }
     }
@@ -74,6 +77,16 @@ public class LinkedListLong {
         return total;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveReduce(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).sum();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Long> lambdaPopulate(Bench b) {
         var rnd = new Random();
@@ -105,6 +118,23 @@ public class LinkedListLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Long> parallelPopulate(Bench b, ParallelPool p) {
+        return p.invoke(() -> {
+            var values = IntStream.range(0, b.data.size()).parallel()
+                    .mapToLong(i -> ThreadLocalRandom.current().nextLong()).toArray();
+            Arrays.parallelPrefix(values, Long::sum);
+
+            return Arrays.stream(values).parallel().boxed().collect(Collectors.toCollection(LinkedList::new));
+        });
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitivePopulate(Bench b) {
+        var rnd = new Random();
+        return LongStream.iterate(rnd.nextLong(), i -> i + rnd.nextLong()).limit(b.data.size()).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public long lambdaIterate(Bench b) {
         return b.data.stream().filter(n -> n > 0).count();
@@ -134,6 +164,16 @@ public class LinkedListLong {
         return count;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long primitiveIterate(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).filter(n -> n > 0).count();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public boolean lambdaContains(Bench b) {
         return b.contains.stream().anyMatch(n -> n == b.target);
@@ -163,6 +203,16 @@ public class LinkedListLong {
         return false;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean primitiveContains(Bench b) {
+        return b.contains.stream().mapToLong(Long::longValue).anyMatch(n -> n == b.target);
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Long> lambdaFilter(Bench b) {
         return b.filter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(LinkedList::new));
@@ -193,6 +243,16 @@ public class LinkedListLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Long> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filter.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveFilter(Bench b) {
+        return b.filter.stream().mapToLong(Long::longValue).filter(n -> n >= 0).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Long> lambdaCopy(Bench b) {
         return b.data.stream().map(n -> n).collect(Collectors.toCollection(LinkedList::new));
@@ -220,6 +280,16 @@ public class LinkedListLong {
         return result;
     }
 
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Long> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveCopy(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).toArray();
+    }
+
     @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
     public LinkedList<Long> lambdaMap(Bench b) {
         return b.data.stream().map(n -> n * 5).collect(Collectors.toCollection(LinkedList::new));
@@ -247,4 +317,14 @@ public class LinkedListLong {
 
         return result;
     }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<Long> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * 5).collect(Collectors.toCollection(LinkedList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] primitiveMap(Bench b) {
+        return b.data.stream().mapToLong(Long::longValue).map(n -> n * 5).toArray();
+    }
 }
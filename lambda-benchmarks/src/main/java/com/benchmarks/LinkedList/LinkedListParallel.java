@@ -0,0 +1,111 @@
+package com.benchmarks.LinkedList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ParallelPool;
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// Parallel pipelines over LinkedList versus ChunkedLinkedList holding the same elements.
+public class LinkedListParallel {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public LinkedList<Integer> data;
+        public ChunkedLinkedList<Integer> chunkedData;
+        public LinkedList<Student> students;
+        public ChunkedLinkedList<Student> chunkedStudents;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new LinkedList<Integer>();
+            chunkedData = new ChunkedLinkedList<Integer>();
+            students = new LinkedList<Student>();
+            chunkedStudents = new ChunkedLinkedList<Student>();
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+
+            for (int value : Datasets.ints(seed, 1, N, -N, N)) {
+                data.add(value);
+                chunkedData.add(value);
+            }
+
+            for (var s : Datasets.students(seed, 2, N, -50, 0)) {
+                students.add(s);
+                chunkedStudents.add(s);
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int linkedReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int chunkedReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.chunkedData.parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> linkedFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().filter(n -> n >= 0).collect(Collectors.toList()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> chunkedFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.chunkedData.parallelStream().filter(n -> n >= 0).collect(Collectors.toList()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> linkedMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * n).collect(Collectors.toList()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> chunkedMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.chunkedData.parallelStream().map(n -> n * n).collect(Collectors.toList()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Student> linkedStudentFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Student> chunkedStudentFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.chunkedStudents.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> linkedStudentMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.students.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> chunkedStudentMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.chunkedStudents.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+}
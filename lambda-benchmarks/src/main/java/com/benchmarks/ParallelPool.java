@@ -0,0 +1,32 @@
+package com.benchmarks;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Dedicated ForkJoinPool for the parallel* benchmarks. Parallel streams started from inside
+ * {@link #invoke(Callable)} fork into this pool's workers instead of the common pool, so the
+ * measured speedup follows the {@code parallelism} parameter rather than the host's core count.
+ */
+@State(Scope.Benchmark)
+public class ParallelPool {
+    @Param({"1","2","4","8","12"})
+    public int parallelism;
+    public ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setupPool() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    public <T> T invoke(Callable<T> task) {
+        return pool.submit(task).join();
+    }
+}
@@ -0,0 +1,123 @@
+package com.benchmarks;
+
+import java.util.ArrayList;
+
+/**
+ * Student formatter compiled once from a pattern such as {@code "{lastName}, {firstName}, {passed}"}.
+ * Placeholders are {firstName}, {lastName}, {average}, {passed} (the average when above 60,
+ * otherwise "Failed", as in the Class reduce benchmarks), {id} and {key} (an extra string passed
+ * by the caller). Formatting appends literals and fields straight into a StringBuilder: there is no
+ * pattern parsing, Formatter or varargs array per call, and ints and longs are appended without
+ * intermediate strings.
+ *
+ * {@link #format} reuses one internal builder, so an instance must not be shared between threads.
+ */
+public final class StudentFormat {
+    private static final int LITERAL = 0, FIRST_NAME = 1, LAST_NAME = 2, AVERAGE = 3, PASSED = 4, ID = 5, KEY = 6;
+
+    private final int[] kinds;
+    private final String[] literals;
+    private final int estimatedLength;
+    private final StringBuilder scratch;
+
+    private StudentFormat(int[] kinds, String[] literals, int estimatedLength) {
+        this.kinds = kinds;
+        this.literals = literals;
+        this.estimatedLength = estimatedLength;
+        scratch = new StringBuilder(estimatedLength);
+    }
+
+    public static StudentFormat compile(String pattern) {
+        var kinds = new ArrayList<Integer>();
+        var literals = new ArrayList<String>();
+        int estimate = 0;
+        int at = 0;
+
+        while (at < pattern.length()) {
+            int open = pattern.indexOf('{', at);
+            if (open < 0) {
+                open = pattern.length();
+            }
+
+            if (open > at) {
+                kinds.add(LITERAL);
+                literals.add(pattern.substring(at, open));
+                estimate += open - at;
+            }
+
+            if (open == pattern.length()) {
+                break;
+            }
+
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open + " in: " + pattern);
+            }
+
+            int kind = kind(pattern.substring(open + 1, close));
+            kinds.add(kind);
+            literals.add(null);
+            estimate += kind == ID ? 20 : kind == AVERAGE ? 11 : 16;
+            at = close + 1;
+        }
+
+        var kindArray = new int[kinds.size()];
+        for (int i = 0; i < kindArray.length; i++) {
+            kindArray[i] = kinds.get(i);
+        }
+
+        return new StudentFormat(kindArray, literals.toArray(new String[0]), estimate);
+    }
+
+    // Typical formatted length, for pre-sizing builders: rows * estimatedLength().
+    public int estimatedLength() {
+        return estimatedLength;
+    }
+
+    public StringBuilder appendTo(StringBuilder sb, Student s) {
+        return appendTo(sb, s, null);
+    }
+
+    public StringBuilder appendTo(StringBuilder sb, Student s, String key) {
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL: sb.append(literals[i]); break;
+                case FIRST_NAME: sb.append(s.firstName); break;
+                case LAST_NAME: sb.append(s.lastName); break;
+                case AVERAGE: sb.append(s.average); break;
+                case PASSED:
+                    if (s.average > 60) {
+                        sb.append(s.average);
+                    } else {
+                        sb.append("Failed");
+                    }
+                    break;
+                case ID: sb.append(s.ID); break;
+                default: sb.append(key);
+            }
+        }
+
+        return sb;
+    }
+
+    public String format(Student s) {
+        return format(s, null);
+    }
+
+    public String format(Student s, String key) {
+        scratch.setLength(0);
+        return appendTo(scratch, s, key).toString();
+    }
+
+    private static int kind(String placeholder) {
+        switch (placeholder) {
+            case "firstName": return FIRST_NAME;
+            case "lastName": return LAST_NAME;
+            case "average": return AVERAGE;
+            case "passed": return PASSED;
+            case "id": return ID;
+            case "key": return KEY;
+            default: throw new IllegalArgumentException("Unknown placeholder: {" + placeholder + "}");
+        }
+    }
+}
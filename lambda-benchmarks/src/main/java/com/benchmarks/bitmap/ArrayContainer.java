@@ -0,0 +1,207 @@
+package com.benchmarks.bitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// Sorted low values, used while the chunk holds at most MAX_ARRAY_SIZE elements.
+final class ArrayContainer extends Container {
+    char[] content;
+    int cardinality;
+
+    ArrayContainer() {
+        this(4);
+    }
+
+    ArrayContainer(int capacity) {
+        content = new char[capacity];
+    }
+
+    ArrayContainer(char[] content, int cardinality) {
+        this.content = content;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(int low) {
+        int pos;
+        if (cardinality == 0 || content[cardinality - 1] < low) {
+            pos = cardinality;
+        } else {
+            pos = Arrays.binarySearch(content, 0, cardinality, (char) low);
+            if (pos >= 0) {
+                return this;
+            }
+
+            pos = -pos - 1;
+        }
+
+        if (cardinality == MAX_ARRAY_SIZE) {
+            return toBitmap().add(low);
+        }
+
+        if (cardinality == content.length) {
+            content = Arrays.copyOf(content, Math.min(MAX_ARRAY_SIZE, Math.max(4, content.length * 2)));
+        }
+
+        System.arraycopy(content, pos, content, pos + 1, cardinality - pos);
+        content[pos] = (char) low;
+        cardinality++;
+
+        return this;
+    }
+
+    @Override
+    boolean contains(int low) {
+        return Arrays.binarySearch(content, 0, cardinality, (char) low) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+        for (int i = 0; i < cardinality; i++) {
+            action.accept(base | content[i]);
+        }
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int pos = 0;
+
+            @Override
+            public boolean hasNext() {
+                return pos < cardinality;
+            }
+
+            @Override
+            public int nextInt() {
+                if (pos >= cardinality) {
+                    throw new NoSuchElementException();
+                }
+
+                return content[pos++];
+            }
+        };
+    }
+
+    @Override
+    Container range(int fromLow, int toLow) {
+        int from = lowerBound(fromLow);
+        int to = lowerBound(toLow);
+
+        return new ArrayContainer(Arrays.copyOfRange(content, from, Math.max(from, to)), Math.max(0, to - from));
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+        var bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            int low = content[i];
+            bitmap.words[low >>> 6] |= 1L << low;
+        }
+
+        bitmap.cardinality = cardinality;
+        return bitmap;
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+    }
+
+    @Override
+    Container runOptimize() {
+        int runs = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (i == 0 || content[i] != content[i - 1] + 1) {
+                runs++;
+            }
+        }
+
+        if (RunContainer.sizeInBytes(runs) < sizeInBytes()) {
+            return RunContainer.fromSorted(content, cardinality, runs);
+        }
+
+        if (content.length > cardinality) {
+            content = Arrays.copyOf(content, cardinality);
+        }
+
+        return this;
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 2L * cardinality + 4;
+    }
+
+    @Override
+    Container and(Container other) {
+        var result = new ArrayContainer(cardinality);
+        for (int i = 0; i < cardinality; i++) {
+            if (other.contains(content[i])) {
+                result.content[result.cardinality++] = content[i];
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    Container or(Container other) {
+        if (!(other instanceof ArrayContainer)) {
+            return super.or(other);
+        }
+
+        var that = (ArrayContainer) other;
+        if (cardinality + that.cardinality > MAX_ARRAY_SIZE) {
+            return super.or(other);
+        }
+
+        var merged = new char[cardinality + that.cardinality];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < cardinality && j < that.cardinality) {
+            char a = content[i];
+            char b = that.content[j];
+
+            if (a < b) {
+                merged[k++] = a;
+                i++;
+            } else if (b < a) {
+                merged[k++] = b;
+                j++;
+            } else {
+                merged[k++] = a;
+                i++;
+                j++;
+            }
+        }
+
+        while (i < cardinality) {
+            merged[k++] = content[i++];
+        }
+
+        while (j < that.cardinality) {
+            merged[k++] = that.content[j++];
+        }
+
+        return new ArrayContainer(merged, k);
+    }
+
+    private int lowerBound(int low) {
+        if (low >= CHUNK_SIZE) {
+            return cardinality;
+        }
+
+        int pos = Arrays.binarySearch(content, 0, cardinality, (char) low);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+}
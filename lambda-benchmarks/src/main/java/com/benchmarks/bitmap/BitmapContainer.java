@@ -0,0 +1,191 @@
+package com.benchmarks.bitmap;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// One bit per possible low value, used once the chunk holds more than MAX_ARRAY_SIZE elements.
+final class BitmapContainer extends Container {
+    static final int WORDS = CHUNK_SIZE / 64;
+
+    final long[] words;
+    int cardinality;
+
+    BitmapContainer() {
+        words = new long[WORDS];
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(int low) {
+        long before = words[low >>> 6];
+        long after = before | (1L << low);
+
+        if (before != after) {
+            words[low >>> 6] = after;
+            cardinality++;
+        }
+
+        return this;
+    }
+
+    @Override
+    boolean contains(int low) {
+        return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            long word = words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0 && index < WORDS - 1) {
+                    word = words[++index];
+                }
+
+                return word != 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int low = (index << 6) | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return low;
+            }
+        };
+    }
+
+    @Override
+    Container range(int fromLow, int toLow) {
+        var result = new BitmapContainer();
+        if (fromLow >= toLow) {
+            return result.repair();
+        }
+
+        int first = fromLow >>> 6;
+        int last = (toLow - 1) >>> 6;
+        System.arraycopy(words, first, result.words, first, last - first + 1);
+
+        result.words[first] &= -1L << fromLow;
+        result.words[last] &= -1L >>> (63 - ((toLow - 1) & 63));
+        result.cardinality = result.countBits();
+
+        return result.repair();
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+        return this;
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    Container runOptimize() {
+        int runs = countRuns();
+        if (RunContainer.sizeInBytes(runs) < sizeInBytes()) {
+            return RunContainer.fromBitmap(this, runs);
+        }
+
+        return repair();
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 8L * WORDS + 4;
+    }
+
+    BitmapContainer andBitmap(BitmapContainer other) {
+        var result = new long[WORDS];
+        for (int w = 0; w < WORDS; w++) {
+            result[w] = words[w] & other.words[w];
+        }
+
+        var bitmap = new BitmapContainer(result, 0);
+        bitmap.cardinality = bitmap.countBits();
+        return bitmap;
+    }
+
+    BitmapContainer orBitmap(BitmapContainer other) {
+        var result = new long[WORDS];
+        for (int w = 0; w < WORDS; w++) {
+            result[w] = words[w] | other.words[w];
+        }
+
+        var bitmap = new BitmapContainer(result, 0);
+        bitmap.cardinality = bitmap.countBits();
+        return bitmap;
+    }
+
+    // Falls back to an array container when the bitmap has become sparse.
+    Container repair() {
+        if (cardinality > MAX_ARRAY_SIZE) {
+            return this;
+        }
+
+        var content = new char[cardinality];
+        int k = 0;
+
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                content[k++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+
+        return new ArrayContainer(content, cardinality);
+    }
+
+    int countRuns() {
+        int runs = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            long next = w + 1 < WORDS ? words[w + 1] : 0;
+
+            // A run ends at every set bit whose successor (possibly in the next word) is clear.
+            runs += Long.bitCount(word & ~(word >>> 1 | next << 63));
+        }
+
+        return runs;
+    }
+
+    private int countBits() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,63 @@
+package com.benchmarks.bitmap;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Holds the low 16 bits of every value that shares one 64K chunk. Mutating
+ * operations return the container to keep, which may have changed representation.
+ */
+abstract class Container {
+    static final int MAX_ARRAY_SIZE = 4096;
+    static final int CHUNK_SIZE = 1 << 16;
+
+    abstract Container add(int low);
+
+    abstract boolean contains(int low);
+
+    abstract int cardinality();
+
+    // Values handed to the action are base | low.
+    abstract void forEach(int base, IntConsumer action);
+
+    abstract PrimitiveIterator.OfInt iterator();
+
+    // Elements with fromLow <= low < toLow, where 0 <= fromLow <= toLow <= CHUNK_SIZE.
+    abstract Container range(int fromLow, int toLow);
+
+    abstract BitmapContainer toBitmap();
+
+    abstract Container copy();
+
+    abstract Container runOptimize();
+
+    abstract long sizeInBytes();
+
+    Container filter(int base, IntPredicate predicate) {
+        var result = new ArrayContainer();
+        Container current = result;
+        var iter = iterator();
+
+        while (iter.hasNext()) {
+            int low = iter.nextInt();
+            if (predicate.test(base | low)) {
+                current = current.add(low);
+            }
+        }
+
+        return current;
+    }
+
+    Container and(Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+
+        return toBitmap().andBitmap(other.toBitmap()).repair();
+    }
+
+    Container or(Container other) {
+        return toBitmap().orBitmap(other.toBitmap()).repair();
+    }
+}
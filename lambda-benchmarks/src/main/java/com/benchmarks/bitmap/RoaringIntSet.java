@@ -0,0 +1,250 @@
+package com.benchmarks.bitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Roaring-style compressed int set. Values are split into 64K chunks by their high
+ * 16 bits; each chunk keeps its low 16 bits in an array, bitmap or run container,
+ * whichever is smallest. The sign bit is flipped before splitting so iteration
+ * order is plain signed ascending order.
+ */
+public class RoaringIntSet {
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public RoaringIntSet() {
+        this(4);
+    }
+
+    private RoaringIntSet(int capacity) {
+        keys = new char[capacity];
+        containers = new Container[capacity];
+    }
+
+    public static RoaringIntSet of(int... values) {
+        var set = new RoaringIntSet();
+        for (var value : values) {
+            set.add(value);
+        }
+
+        return set.runOptimize();
+    }
+
+    public void add(int value) {
+        int u = value ^ Integer.MIN_VALUE;
+        char high = (char) (u >>> 16);
+        int index = indexOf(high);
+
+        if (index >= 0) {
+            containers[index] = containers[index].add(u & 0xFFFF);
+        } else {
+            index = -index - 1;
+            insert(index, high, new ArrayContainer().add(u & 0xFFFF));
+        }
+    }
+
+    public boolean contains(int value) {
+        int u = value ^ Integer.MIN_VALUE;
+        int index = indexOf((char) (u >>> 16));
+
+        return index >= 0 && containers[index].contains(u & 0xFFFF);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality() == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(base(keys[i]), action);
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int index = -1;
+            int base;
+            PrimitiveIterator.OfInt current = IntStream.empty().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && index < size - 1) {
+                    index++;
+                    base = base(keys[index]);
+                    current = containers[index].iterator();
+                }
+
+                return current.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return base | current.nextInt();
+            }
+        };
+    }
+
+    public IntStream stream() {
+        int characteristics = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), cardinality(), characteristics), false);
+    }
+
+    // Elements with fromInclusive <= value < toExclusive.
+    public RoaringIntSet filterRange(int fromInclusive, int toExclusive) {
+        var result = new RoaringIntSet(size);
+        if (fromInclusive >= toExclusive) {
+            return result;
+        }
+
+        long from = (long) fromInclusive - Integer.MIN_VALUE;
+        long to = (long) toExclusive - Integer.MIN_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            long chunkStart = (long) keys[i] << 16;
+            long chunkEnd = chunkStart + Container.CHUNK_SIZE;
+
+            if (chunkEnd <= from || chunkStart >= to) {
+                continue;
+            }
+
+            if (from <= chunkStart && to >= chunkEnd) {
+                result.append(keys[i], containers[i].copy());
+            } else {
+                int fromLow = (int) Math.max(0, from - chunkStart);
+                int toLow = (int) Math.min(Container.CHUNK_SIZE, to - chunkStart);
+                result.append(keys[i], containers[i].range(fromLow, toLow));
+            }
+        }
+
+        return result;
+    }
+
+    public RoaringIntSet filter(IntPredicate predicate) {
+        var result = new RoaringIntSet(size);
+        for (int i = 0; i < size; i++) {
+            result.append(keys[i], containers[i].filter(base(keys[i]), predicate));
+        }
+
+        return result;
+    }
+
+    public RoaringIntSet and(RoaringIntSet other) {
+        var result = new RoaringIntSet(Math.min(size, other.size));
+        int i = 0;
+        int j = 0;
+
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    public RoaringIntSet or(RoaringIntSet other) {
+        var result = new RoaringIntSet(size + other.size);
+        int i = 0;
+        int j = 0;
+
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    // Converts every container to its smallest representation.
+    public RoaringIntSet runOptimize() {
+        for (int i = 0; i < size; i++) {
+            containers[i] = containers[i].runOptimize();
+        }
+
+        return this;
+    }
+
+    public long sizeInBytes() {
+        long bytes = 2L * keys.length + 8L * containers.length;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+
+        return bytes;
+    }
+
+    int containerCount() {
+        return size;
+    }
+
+    private static int base(char high) {
+        return (high << 16) ^ Integer.MIN_VALUE;
+    }
+
+    private int indexOf(char high) {
+        if (size > 0 && keys[size - 1] == high) {
+            return size - 1;
+        }
+
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void append(char high, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+
+        insert(size, high, container);
+    }
+
+    private void insert(int index, char high, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+}
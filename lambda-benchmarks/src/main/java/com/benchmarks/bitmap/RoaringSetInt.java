@@ -0,0 +1,241 @@
+package com.benchmarks.bitmap;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+// Footprint per element: the *Build benchmarks report the retained size of what they built as the
+// roaringBytesPerElement / hashBytesPerElement counters. gc.alloc.rate.norm also counts the garbage
+// left behind while growing, so it overstates what the set keeps.
+public class RoaringSetInt {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public int[] values;
+        public HashSet<Integer> data;
+        public HashSet<Integer> filter;
+        public HashSet<Integer> other;
+        public RoaringIntSet bitmap;
+        public RoaringIntSet bitmapFilter;
+        public RoaringIntSet bitmapOther;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new HashSet<Integer>(N);
+            bitmap = new RoaringIntSet();
+
+            for (int i = 1; i <= N; i++) {
+                data.add(i);
+                bitmap.add(i);
+            }
+
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+            values = Datasets.ints(seed, 1, N, N, 3 * N);
+            filter = new HashSet<Integer>(N);
+            other = new HashSet<Integer>(N);
+            bitmapFilter = new RoaringIntSet();
+            bitmapOther = new RoaringIntSet();
+
+            for (int value : values) {
+                filter.add(value);
+                bitmapFilter.add(value);
+            }
+
+            for (int value : Datasets.ints(seed, 2, N, N, 3 * N)) {
+                other.add(value);
+                bitmapOther.add(value);
+            }
+
+            bitmap.runOptimize();
+            bitmapFilter.runOptimize();
+            bitmapOther.runOptimize();
+        }
+    }
+
+    // Retained bytes per inserted value of the sets the *Build benchmarks return. JMH sums these
+    // counters over iterations, forks and threads, so each thread fills them in during its first
+    // measurement iteration only and reports its share of the value.
+    // Both sizes are estimates for a 64-bit JVM with compressed oops that count object and array
+    // headers: a 16-byte Integer and a 32-byte HashMap.Node per element, 4 bytes per table slot and
+    // the HashSet, HashMap and table headers; sizeInBytes() plus the set, its two arrays and a
+    // 24-byte object with a 16-byte array header per container.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        private boolean record;
+        private boolean recorded;
+        private int shares;
+        private long roaringBytes;
+        private long hashBytes;
+        private int n;
+
+        @Setup(Level.Iteration)
+        public void setupIteration(BenchmarkParams benchmark, IterationParams params) {
+            shares = Math.max(benchmark.getForks(), 1) * benchmark.getThreads();
+            record = params.getType() == IterationType.MEASUREMENT && !recorded;
+            recorded |= record;
+            roaringBytes = 0;
+            hashBytes = 0;
+            n = 0;
+        }
+
+        public double roaringBytesPerElement() {
+            return n == 0 ? 0 : (double) roaringBytes / n / shares;
+        }
+
+        public double hashBytesPerElement() {
+            return n == 0 ? 0 : (double) hashBytes / n / shares;
+        }
+
+        static long hashSetBytes(int size, int initialCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(initialCapacity - 1, 1)) << 1;
+            while (size > capacity * 0.75) {
+                capacity <<= 1;
+            }
+
+            return 16 + 48 + 16 + 4L * capacity + (16 + 32) * (long) size;
+        }
+
+        static long roaringBytes(RoaringIntSet set) {
+            return set.sizeInBytes() + 24 + 2 * 16 + (24 + 16) * (long) set.containerCount();
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> hashBuild(Bench b, Footprint f) {
+        var result = new HashSet<Integer>(b.N);
+        for (var value : b.values) {
+            result.add(value);
+        }
+
+        if (f.record) {
+            f.hashBytes = Footprint.hashSetBytes(result.size(), b.N);
+            f.n = b.N;
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RoaringIntSet roaringBuild(Bench b, Footprint f) {
+        var result = new RoaringIntSet();
+        for (var value : b.values) {
+            result.add(value);
+        }
+
+        result.runOptimize();
+        if (f.record) {
+            f.roaringBytes = Footprint.roaringBytes(result);
+            f.n = b.N;
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int hashIterate(Bench b) {
+        int count = 0;
+        for (var value : b.data) {
+            if (value > 0)
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int roaringIterate(Bench b) {
+        int count = 0;
+        var iter = b.bitmap.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.nextInt() > 0)
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int roaringLambdaIterate(Bench b) {
+        return (int) b.bitmap.stream().filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int roaringRangeIterate(Bench b) {
+        return b.bitmap.filterRange(1, Integer.MAX_VALUE).cardinality();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean hashContains(Bench b) {
+        return b.filter.contains(b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean roaringContains(Bench b) {
+        return b.bitmapFilter.contains(b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> hashFilter(Bench b) {
+        return b.filter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RoaringIntSet roaringFilter(Bench b) {
+        return b.bitmapFilter.filter(n -> n >= 0);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RoaringIntSet roaringRangeFilter(Bench b) {
+        return b.bitmapFilter.filterRange(0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> hashUnion(Bench b) {
+        var result = new HashSet<Integer>(b.filter);
+        result.addAll(b.other);
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RoaringIntSet roaringUnion(Bench b) {
+        return b.bitmapFilter.or(b.bitmapOther);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashSet<Integer> hashIntersection(Bench b) {
+        var result = new HashSet<Integer>(b.filter);
+        result.retainAll(b.other);
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RoaringIntSet roaringIntersection(Bench b) {
+        return b.bitmapFilter.and(b.bitmapOther);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int hashCardinality(Bench b) {
+        return b.filter.size();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int roaringCardinality(Bench b) {
+        return b.bitmapFilter.cardinality();
+    }
+}
@@ -0,0 +1,239 @@
+package com.benchmarks.bitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// Sorted, non-adjacent runs stored as (start, length - 1) pairs; dense ranges cost four bytes.
+final class RunContainer extends Container {
+    final char[] runs;
+    final int count;
+
+    private RunContainer(char[] runs, int count) {
+        this.runs = runs;
+        this.count = count;
+    }
+
+    static long sizeInBytes(int runs) {
+        return 4L * runs + 4;
+    }
+
+    static RunContainer fromSorted(char[] content, int cardinality, int runCount) {
+        var runs = new char[2 * runCount];
+        int r = -1;
+
+        for (int i = 0; i < cardinality; i++) {
+            if (i == 0 || content[i] != content[i - 1] + 1) {
+                r++;
+                runs[2 * r] = content[i];
+                runs[2 * r + 1] = 0;
+            } else {
+                runs[2 * r + 1]++;
+            }
+        }
+
+        return new RunContainer(runs, runCount);
+    }
+
+    static RunContainer fromBitmap(BitmapContainer bitmap, int runCount) {
+        var runs = new char[2 * runCount];
+        int r = 0;
+        int low = nextSetBit(bitmap.words, 0);
+
+        while (low >= 0) {
+            int end = nextClearBit(bitmap.words, low);
+            runs[2 * r] = (char) low;
+            runs[2 * r + 1] = (char) (end - low - 1);
+            r++;
+            low = end < CHUNK_SIZE ? nextSetBit(bitmap.words, end) : -1;
+        }
+
+        return new RunContainer(runs, runCount);
+    }
+
+    @Override
+    Container add(int low) {
+        if (contains(low)) {
+            return this;
+        }
+
+        return toBitmap().repair().add(low);
+    }
+
+    @Override
+    boolean contains(int low) {
+        int r = runIndex(low);
+        return r >= 0 && low <= runs[2 * r] + runs[2 * r + 1];
+    }
+
+    @Override
+    int cardinality() {
+        int cardinality = 0;
+        for (int r = 0; r < count; r++) {
+            cardinality += runs[2 * r + 1] + 1;
+        }
+
+        return cardinality;
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+        for (int r = 0; r < count; r++) {
+            int start = runs[2 * r];
+            int end = start + runs[2 * r + 1];
+
+            for (int low = start; low <= end; low++) {
+                action.accept(base | low);
+            }
+        }
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int r = 0;
+            int next = count > 0 ? runs[0] : 0;
+
+            @Override
+            public boolean hasNext() {
+                return r < count;
+            }
+
+            @Override
+            public int nextInt() {
+                if (r >= count) {
+                    throw new NoSuchElementException();
+                }
+
+                int low = next;
+                if (low == runs[2 * r] + runs[2 * r + 1]) {
+                    r++;
+                    if (r < count) {
+                        next = runs[2 * r];
+                    }
+                } else {
+                    next++;
+                }
+
+                return low;
+            }
+        };
+    }
+
+    @Override
+    Container range(int fromLow, int toLow) {
+        var clipped = new char[2 * count];
+        int k = 0;
+
+        for (int r = 0; r < count; r++) {
+            int start = Math.max(runs[2 * r], fromLow);
+            int end = Math.min(runs[2 * r] + runs[2 * r + 1], toLow - 1);
+
+            if (start <= end) {
+                clipped[2 * k] = (char) start;
+                clipped[2 * k + 1] = (char) (end - start);
+                k++;
+            }
+        }
+
+        return new RunContainer(Arrays.copyOf(clipped, 2 * k), k);
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+        var bitmap = new BitmapContainer();
+        for (int r = 0; r < count; r++) {
+            int start = runs[2 * r];
+            int end = start + runs[2 * r + 1] + 1;
+            setRange(bitmap.words, start, end);
+        }
+
+        bitmap.cardinality = cardinality();
+        return bitmap;
+    }
+
+    // Run containers are never mutated in place, so they can be shared.
+    @Override
+    Container copy() {
+        return this;
+    }
+
+    @Override
+    Container runOptimize() {
+        return this;
+    }
+
+    @Override
+    long sizeInBytes() {
+        return sizeInBytes(count);
+    }
+
+    // Index of the last run starting at or before low, or -1.
+    private int runIndex(int low) {
+        int lo = 0;
+        int hi = count - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int start = runs[2 * mid];
+
+            if (start == low) {
+                return mid;
+            } else if (start < low) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        return hi;
+    }
+
+    private static void setRange(long[] words, int start, int end) {
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+
+        if (first == last) {
+            words[first] |= (-1L << start) & (-1L >>> -end);
+            return;
+        }
+
+        words[first] |= -1L << start;
+        for (int w = first + 1; w < last; w++) {
+            words[w] = -1L;
+        }
+
+        words[last] |= -1L >>> -end;
+    }
+
+    private static int nextSetBit(long[] words, int from) {
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+
+        while (word == 0) {
+            if (++w == words.length) {
+                return -1;
+            }
+
+            word = words[w];
+        }
+
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int nextClearBit(long[] words, int from) {
+        int w = from >>> 6;
+        long word = ~words[w] & (-1L << from);
+
+        while (word == 0) {
+            if (++w == words.length) {
+                return CHUNK_SIZE;
+            }
+
+            word = ~words[w];
+        }
+
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+}
@@ -0,0 +1,99 @@
+package com.benchmarks.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Interns names to dense int ids so tables store an int per name instead of a String pointer.
+ * Substring predicates registered with {@link #flag(String)} are evaluated once per name, so
+ * a row-level {@code name.contains(s)} becomes {@code (flags(id) & mask) != 0}.
+ */
+public class NameDictionary {
+    private static final int MAX_FLAGS = Integer.SIZE;
+
+    private String[] names = new String[32];
+    private int[] flags = new int[32];
+    private String[] substrings = new String[0];
+    private int size;
+    private final HashMap<String, Integer> ids = new HashMap<String, Integer>();
+
+    public int intern(String name) {
+        var id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            flags = Arrays.copyOf(flags, size * 2);
+        }
+
+        names[size] = name;
+        flags[size] = computeFlags(name);
+        ids.put(name, size);
+
+        return size++;
+    }
+
+    public int id(String name) {
+        var id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Returns the mask bit set for every name containing substring, registering it if needed.
+    public int flag(String substring) {
+        for (int i = 0; i < substrings.length; i++) {
+            if (substrings[i].equals(substring)) {
+                return 1 << i;
+            }
+        }
+
+        if (substrings.length == MAX_FLAGS) {
+            throw new IllegalStateException("At most " + MAX_FLAGS + " substring flags are supported");
+        }
+
+        int bit = 1 << substrings.length;
+        substrings = Arrays.copyOf(substrings, substrings.length + 1);
+        substrings[substrings.length - 1] = substring;
+
+        for (int id = 0; id < size; id++) {
+            if (names[id].contains(substring)) {
+                flags[id] |= bit;
+            }
+        }
+
+        return bit;
+    }
+
+    public int flags(int id) {
+        return flags[id];
+    }
+
+    public boolean matches(int id, int mask) {
+        return (flags[id] & mask) == mask;
+    }
+
+    // Backing flag array indexed by id, valid up to size().
+    public int[] flagTable() {
+        return flags;
+    }
+
+    private int computeFlags(String name) {
+        int result = 0;
+        for (int i = 0; i < substrings.length; i++) {
+            if (name.contains(substrings[i])) {
+                result |= 1 << i;
+            }
+        }
+
+        return result;
+    }
+}
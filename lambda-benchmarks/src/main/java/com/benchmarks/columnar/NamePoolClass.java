@@ -0,0 +1,186 @@
+package com.benchmarks.columnar;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// string* is a reordered variant of ArrayListClass.lambdaFilter/loopContains, not a rerun: the name
+// tests come first, because with averages in [-50, -1] ArrayListClass's leading average guards never
+// pass and its String tests never run. Every row pays for exactly one String or mask test (two for
+// contains when the first-name test matches), so mask* is read against string*, and table* keeps
+// String.contains on the columnar layout to separate the layout gain from the predicate gain.
+public class NamePoolClass {
+
+    @State(Scope.Thread)
+    public static class Bench {
+
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public ArrayList<Student> students;
+        public StudentTable table;
+        public int spaceMask;
+        public int esMask;
+        public int iMask;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupStudents() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = new ArrayList<Student>(Arrays.asList(Datasets.students(seed, 1, N, -50, 0)));
+
+            table = StudentTable.of(students);
+            spaceMask = table.names().flag(" ");
+            esMask = table.names().flag("es");
+            iMask = table.names().flag("i");
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean stringLambdaContains(Bench b) {
+        return b.students.stream().anyMatch(
+                s -> s.firstName.contains(" ") && s.lastName.contains("es") && s.average >= 70 && s.average <= 85);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean stringLoopContains(Bench b) {
+        int size = b.students.size();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.firstName.contains(" ") && s.lastName.contains("es") && s.average >= 70 && s.average <= 85) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean tableLoopContains(Bench b) {
+        var t = b.table;
+        var names = t.names();
+        var average = t.averages();
+        var firstName = t.firstNameIds();
+        var lastName = t.lastNameIds();
+
+        for (int i = 0; i < t.size(); i++) {
+            if (names.name(firstName[i]).contains(" ") && names.name(lastName[i]).contains("es")
+                    && average[i] >= 70 && average[i] <= 85) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean maskLambdaContains(Bench b) {
+        var t = b.table;
+        var names = t.names();
+        return IntStream.range(0, t.size()).anyMatch(i -> names.matches(t.firstNameIds()[i], b.spaceMask)
+                && names.matches(t.lastNameIds()[i], b.esMask) && t.average(i) >= 70 && t.average(i) <= 85);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean maskLoopContains(Bench b) {
+        var t = b.table;
+        var flags = t.names().flagTable();
+        var average = t.averages();
+        var firstName = t.firstNameIds();
+        var lastName = t.lastNameIds();
+        int space = b.spaceMask;
+        int es = b.esMask;
+
+        for (int i = 0; i < t.size(); i++) {
+            if ((flags[firstName[i]] & space) != 0 && (flags[lastName[i]] & es) != 0
+                    && average[i] >= 70 && average[i] <= 85) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> stringLambdaFilter(Bench b) {
+        return b.students.stream()
+                .filter(s -> s.firstName.contains("i") && s.average > 50 && s.average < 70 && s.ID > b.target)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> stringLoopFilter(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.firstName.contains("i") && s.average > 50 && s.average < 70 && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable tableLoopFilter(Bench b) {
+        var t = b.table;
+        var names = t.names();
+        var average = t.averages();
+        var id = t.ids();
+        var firstName = t.firstNameIds();
+        var result = new StudentTable(t.size(), names);
+
+        for (int i = 0; i < t.size(); i++) {
+            if (names.name(firstName[i]).contains("i") && average[i] > 50 && average[i] < 70 && id[i] > b.target) {
+                result.addRow(t, i);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable maskLambdaFilter(Bench b) {
+        var t = b.table;
+        var names = t.names();
+        var rows = IntStream.range(0, t.size())
+                .filter(i -> names.matches(t.firstNameIds()[i], b.iMask) && t.average(i) > 50 && t.average(i) < 70
+                        && t.id(i) > b.target)
+                .toArray();
+
+        return t.select(rows, rows.length);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable maskLoopFilter(Bench b) {
+        var t = b.table;
+        var flags = t.names().flagTable();
+        var average = t.averages();
+        var id = t.ids();
+        var firstName = t.firstNameIds();
+        var result = new StudentTable(t.size(), t.names());
+        int mask = b.iMask;
+
+        for (int i = 0; i < t.size(); i++) {
+            if ((flags[firstName[i]] & mask) != 0 && average[i] > 50 && average[i] < 70 && id[i] > b.target) {
+                result.addRow(t, i);
+            }
+        }
+
+        return result;
+    }
+}
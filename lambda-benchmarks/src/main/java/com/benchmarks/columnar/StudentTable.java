@@ -0,0 +1,141 @@
+package com.benchmarks.columnar;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.benchmarks.Student;
+
+/**
+ * Structure-of-arrays Student storage: one primitive column per field, with names
+ * kept as ids into a shared {@link NameDictionary}. Column accessors return the
+ * backing arrays, which are valid up to {@link #size()}.
+ */
+public class StudentTable {
+    private final NameDictionary names;
+    private int[] average;
+    private long[] id;
+    private int[] firstName;
+    private int[] lastName;
+    private int size;
+
+    public StudentTable(int capacity) {
+        this(capacity, new NameDictionary());
+    }
+
+    public StudentTable(int capacity, NameDictionary names) {
+        this.names = names;
+        average = new int[capacity];
+        id = new long[capacity];
+        firstName = new int[capacity];
+        lastName = new int[capacity];
+    }
+
+    public static StudentTable of(Collection<? extends Student> students) {
+        var table = new StudentTable(students.size());
+        for (var s : students) {
+            table.add(s.average, s.ID, s.firstName, s.lastName);
+        }
+
+        return table;
+    }
+
+    public void add(int average, long id, String firstName, String lastName) {
+        addRow(average, id, names.intern(firstName), names.intern(lastName));
+    }
+
+    // Appends a row whose name ids already belong to this table's dictionary.
+    public void addRow(int average, long id, int firstNameId, int lastNameId) {
+        if (size == this.average.length) {
+            grow();
+        }
+
+        this.average[size] = average;
+        this.id[size] = id;
+        this.firstName[size] = firstNameId;
+        this.lastName[size] = lastNameId;
+        size++;
+    }
+
+    public void addRow(StudentTable source, int row) {
+        addRow(source.average[row], source.id[row], source.firstName[row], source.lastName[row]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public NameDictionary names() {
+        return names;
+    }
+
+    public int average(int row) {
+        return average[row];
+    }
+
+    public long id(int row) {
+        return id[row];
+    }
+
+    public String firstName(int row) {
+        return names.name(firstName[row]);
+    }
+
+    public String lastName(int row) {
+        return names.name(lastName[row]);
+    }
+
+    public int[] averages() {
+        return average;
+    }
+
+    public long[] ids() {
+        return id;
+    }
+
+    public int[] firstNameIds() {
+        return firstName;
+    }
+
+    public int[] lastNameIds() {
+        return lastName;
+    }
+
+    public StudentTable copy() {
+        var copy = new StudentTable(0, names);
+        copy.average = Arrays.copyOf(average, size);
+        copy.id = Arrays.copyOf(id, size);
+        copy.firstName = Arrays.copyOf(firstName, size);
+        copy.lastName = Arrays.copyOf(lastName, size);
+        copy.size = size;
+
+        return copy;
+    }
+
+    // Copies the given rows, in order, into a new table sharing this table's dictionary.
+    public StudentTable select(int[] rows, int count) {
+        var result = new StudentTable(count, names);
+        for (int i = 0; i < count; i++) {
+            result.addRow(this, rows[i]);
+        }
+
+        return result;
+    }
+
+    public Student toStudent(int row) {
+        var s = new Student();
+        s.average = average[row];
+        s.ID = id[row];
+        s.firstName = firstName(row);
+        s.lastName = lastName(row);
+
+        return s;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, average.length + (average.length >> 1));
+        average = Arrays.copyOf(average, capacity);
+        id = Arrays.copyOf(id, capacity);
+        firstName = Arrays.copyOf(firstName, capacity);
+        lastName = Arrays.copyOf(lastName, capacity);
+    }
+}
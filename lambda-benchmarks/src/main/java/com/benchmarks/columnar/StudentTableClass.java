@@ -0,0 +1,279 @@
+package com.benchmarks.columnar;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+public class StudentTableClass {
+
+    @State(Scope.Thread)
+    public static class Bench {
+
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public StudentTable students;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupStudents() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = StudentTable.of(Arrays.asList(Datasets.students(seed, 1, N, -50, 0)));
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String lambdaReduce(Bench b) {
+        var t = b.students;
+        return IntStream.range(0, t.size())
+                .mapToObj(i -> String.format("%s, %s, %s", t.lastName(i), t.firstName(i),
+                        (t.average(i) > 60) ? Integer.toString(t.average(i)) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var t = b.students;
+        var average = t.averages();
+        var sb = new StringBuilder();
+
+        for (int i = 0; i < t.size(); i++) {
+            var passed = average[i] > 60 ? Integer.toString(average[i]) : "Failed";
+            sb.append(String.format("%s, %s, %s", t.lastName(i), t.firstName(i), passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable lambdaPopulate(Bench b) {
+        var rnd = new Random();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+        var result = new StudentTable(b.N, b.students.names());
+
+        IntStream.rangeClosed(1, b.N).forEach(i -> result.add(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))));
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable loopPopulate(Bench b) {
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        var rnd = new Random();
+        var result = new StudentTable(b.N, b.students.names());
+
+        for (int i = 0; i < b.N; i++) {
+            var firstName = b.firstNames.get(rnd.nextInt(maxF));
+            var lastName = b.lastNames.get(rnd.nextInt(maxL));
+            result.add(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(), firstName, lastName);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        var t = b.students;
+        return (int) IntStream.range(0, t.size())
+                .filter(i -> t.firstName(i).length() > 0 && t.average(i) >= 50 && t.id(i) < Long.MAX_VALUE).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        var t = b.students;
+        var names = t.names();
+        var average = t.averages();
+        var id = t.ids();
+        var firstName = t.firstNameIds();
+        int count = 0;
+
+        for (int i = 0; i < t.size(); i++) {
+            if (names.name(firstName[i]).length() > 0 && average[i] >= 50 && id[i] < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int columnIterate(Bench b) {
+        var t = b.students;
+        var names = t.names();
+        var average = t.averages();
+        var id = t.ids();
+        var firstName = t.firstNameIds();
+        var rows = new int[t.size()];
+        int count = 0;
+
+        for (int i = 0; i < t.size(); i++) {
+            if (average[i] >= 50) {
+                rows[count++] = i;
+            }
+        }
+
+        int kept = 0;
+        for (int k = 0; k < count; k++) {
+            if (id[rows[k]] < Long.MAX_VALUE) {
+                rows[kept++] = rows[k];
+            }
+        }
+
+        count = 0;
+        for (int k = 0; k < kept; k++) {
+            if (names.name(firstName[rows[k]]).length() > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        var t = b.students;
+        return IntStream.range(0, t.size()).anyMatch(i -> t.average(i) >= 70 && t.average(i) <= 85
+                && t.firstName(i).contains(" ") && t.lastName(i).contains("es"));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        var t = b.students;
+        var names = t.names();
+        var average = t.averages();
+        var firstName = t.firstNameIds();
+        var lastName = t.lastNameIds();
+
+        for (int i = 0; i < t.size(); i++) {
+            if (average[i] >= 70 && average[i] <= 85 && names.name(firstName[i]).contains(" ")
+                    && names.name(lastName[i]).contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable lambdaFilter(Bench b) {
+        var t = b.students;
+        var rows = IntStream.range(0, t.size())
+                .filter(i -> t.average(i) > 50 && t.average(i) < 70 && t.firstName(i).contains("i") && t.id(i) > b.target)
+                .toArray();
+
+        return t.select(rows, rows.length);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable loopFilter(Bench b) {
+        var t = b.students;
+        var names = t.names();
+        var average = t.averages();
+        var id = t.ids();
+        var firstName = t.firstNameIds();
+        var result = new StudentTable(t.size(), names);
+
+        for (int i = 0; i < t.size(); i++) {
+            if (average[i] > 50 && average[i] < 70 && names.name(firstName[i]).contains("i") && id[i] > b.target) {
+                result.addRow(t, i);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable columnFilter(Bench b) {
+        var t = b.students;
+        var names = t.names();
+        var average = t.averages();
+        var id = t.ids();
+        var firstName = t.firstNameIds();
+        var rows = new int[t.size()];
+        int count = 0;
+
+        for (int i = 0; i < t.size(); i++) {
+            if (average[i] > 50 && average[i] < 70) {
+                rows[count++] = i;
+            }
+        }
+
+        int kept = 0;
+        for (int k = 0; k < count; k++) {
+            if (id[rows[k]] > b.target) {
+                rows[kept++] = rows[k];
+            }
+        }
+
+        count = 0;
+        for (int k = 0; k < kept; k++) {
+            if (names.name(firstName[rows[k]]).contains("i")) {
+                rows[count++] = rows[k];
+            }
+        }
+
+        return t.select(rows, count);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable lambdaCopy(Bench b) {
+        var t = b.students;
+        var result = new StudentTable(t.size(), t.names());
+        IntStream.range(0, t.size()).forEach(i -> result.addRow(t, i));
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable loopCopy(Bench b) {
+        var t = b.students;
+        var result = new StudentTable(t.size(), t.names());
+
+        for (int i = 0; i < t.size(); i++) {
+            result.addRow(t, i);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentTable columnCopy(Bench b) {
+        return b.students.copy();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> lambdaMap(Bench b) {
+        var t = b.students;
+        return new HashMap<Long, String>(IntStream.range(0, t.size()).boxed()
+                .collect(Collectors.toMap(i -> t.id(i), i -> String.format("%s, %s", t.lastName(i), t.firstName(i)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        var t = b.students;
+        var id = t.ids();
+        var result = new HashMap<Long, String>(t.size());
+
+        for (int i = 0; i < t.size(); i++) {
+            var value = String.format("%s, %s", t.lastName(i), t.firstName(i));
+            result.put(id[i], value);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.benchmarks.contention;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashMapClass workloads with readers and writers on one map per group. The map holds the first N
+// of 2N generated students under their "%d - %c%c%d" keys; writers put and remove the other N.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContendedHashMapClass {
+
+    @State(Scope.Group)
+    public static class Shared {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"concurrent","synchronized","stamped","striped"})
+        public String map;
+
+        public Map<String, Student> students;
+        public String[] keys;
+        public Student[] values;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            values = Datasets.students(seed, 1, 2 * N, -50, 1, i -> i * N);
+            keys = Datasets.studentKeys(values);
+
+            students = ContendedMaps.create(map, 2 * N);
+            for (int i = 0; i < N; i++) {
+                students.put(keys[i], values[i]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        public int next;
+
+        @Setup(Level.Trial)
+        public void setupWriter() {
+            next = ThreadLocalRandom.current().nextInt(1 << 20) * 2;
+        }
+
+        public Student write(Shared s) {
+            int op = next++;
+            int i = s.N + (op >>> 1) % s.N;
+
+            return (op & 1) == 0 ? s.students.put(s.keys[i], s.values[i]) : s.students.remove(s.keys[i]);
+        }
+    }
+
+    @Benchmark @Group("get") @GroupThreads(3)
+    public Student getReader(Shared s) {
+        return s.students.get(s.keys[ThreadLocalRandom.current().nextInt(s.N)]);
+    }
+
+    @Benchmark @Group("get") @GroupThreads(1)
+    public Student getWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+
+    @Benchmark @Group("iterate") @GroupThreads(3)
+    public int iterateReader(Shared s) {
+        var count = new int[1];
+        s.students.forEach((key, val) -> {
+            if (key.length() > 0 && key.contains("-") && val.average >= 50 && val.ID < Long.MAX_VALUE) {
+                count[0]++;
+            }
+        });
+
+        return count[0];
+    }
+
+    @Benchmark @Group("iterate") @GroupThreads(1)
+    public Student iterateWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+}
@@ -0,0 +1,95 @@
+package com.benchmarks.contention;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashMapInt workloads with readers and writers on one map per group. Readers do point gets, the
+// values scan behind loopContains or the loopIterate count; writers put and remove keys above N, so
+// the N original entries stay visible. Change the read:write thread ratio with -tg, e.g. -tg 1,1 or -tg 7,1.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContendedHashMapInt {
+
+    @State(Scope.Group)
+    public static class Shared {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"concurrent","synchronized","stamped","striped"})
+        public String map;
+
+        public Map<Integer, Integer> data;
+        public int target;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = ContendedMaps.create(map, 2 * N);
+            for (int i = 1; i <= N; i++) {
+                data.put(i, i * 10);
+            }
+
+            target = Datasets.random(seed, 0).nextInt(1, N + 1) * 10;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        public int next;
+
+        @Setup(Level.Trial)
+        public void setupWriter() {
+            next = ThreadLocalRandom.current().nextInt(1 << 20) * 2;
+        }
+
+        // Even ops put a key in (N, 2N], the following op removes it again.
+        public Integer write(Shared s) {
+            int op = next++;
+            int key = s.N + 1 + (op >>> 1) % s.N;
+
+            return (op & 1) == 0 ? s.data.put(key, key * 10) : s.data.remove(key);
+        }
+    }
+
+    @Benchmark @Group("get") @GroupThreads(3)
+    public Integer getReader(Shared s) {
+        return s.data.get(ThreadLocalRandom.current().nextInt(1, s.N + 1));
+    }
+
+    @Benchmark @Group("get") @GroupThreads(1)
+    public Integer getWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+
+    @Benchmark @Group("contains") @GroupThreads(3)
+    public boolean containsReader(Shared s) {
+        return s.data.containsValue(s.target);
+    }
+
+    @Benchmark @Group("contains") @GroupThreads(1)
+    public Integer containsWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+
+    @Benchmark @Group("iterate") @GroupThreads(3)
+    public int iterateReader(Shared s) {
+        var count = new int[1];
+        s.data.forEach((k, v) -> {
+            if (v < Integer.MAX_VALUE) {
+                count[0]++;
+            }
+        });
+
+        return count[0];
+    }
+
+    @Benchmark @Group("iterate") @GroupThreads(1)
+    public Integer iterateWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+}
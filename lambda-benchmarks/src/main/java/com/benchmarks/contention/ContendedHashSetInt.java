@@ -0,0 +1,77 @@
+package com.benchmarks.contention;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashSetInt workloads on a set built with Collections.newSetFromMap over each contended map.
+// Readers look up or iterate the N original elements while writers add and remove elements above N.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContendedHashSetInt {
+
+    @State(Scope.Group)
+    public static class Shared {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"concurrent","synchronized","stamped","striped"})
+        public String map;
+
+        public Set<Integer> data;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = Collections.newSetFromMap(ContendedMaps.create(map, 2 * N));
+            for (int i = 1; i <= N; i++) {
+                data.add(i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        public int next;
+
+        @Setup(Level.Trial)
+        public void setupWriter() {
+            next = ThreadLocalRandom.current().nextInt(1 << 20) * 2;
+        }
+
+        public boolean write(Shared s) {
+            int op = next++;
+            int element = s.N + 1 + (op >>> 1) % s.N;
+
+            return (op & 1) == 0 ? s.data.add(element) : s.data.remove(element);
+        }
+    }
+
+    @Benchmark @Group("contains") @GroupThreads(3)
+    public boolean containsReader(Shared s) {
+        return s.data.contains(ThreadLocalRandom.current().nextInt(1, s.N + 1));
+    }
+
+    @Benchmark @Group("contains") @GroupThreads(1)
+    public boolean containsWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+
+    @Benchmark @Group("iterate") @GroupThreads(3)
+    public int iterateReader(Shared s) {
+        var count = new int[1];
+        s.data.forEach(e -> {
+            if (e > 0) {
+                count[0]++;
+            }
+        });
+
+        return count[0];
+    }
+
+    @Benchmark @Group("iterate") @GroupThreads(1)
+    public boolean iterateWriter(Shared s, Writer w) {
+        return w.write(s);
+    }
+}
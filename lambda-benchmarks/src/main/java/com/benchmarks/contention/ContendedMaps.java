@@ -0,0 +1,32 @@
+package com.benchmarks.contention;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The thread-safe maps the contention benchmarks compare, by the name used in their {@code map} param.
+ */
+public final class ContendedMaps {
+    // At least four stripes per core, rounded up to a power of two, so writers on different cores rarely share one.
+    private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+    private ContendedMaps() {
+    }
+
+    public static <K, V> Map<K, V> create(String kind, int capacity) {
+        switch (kind) {
+            case "concurrent":
+                return new ConcurrentHashMap<K, V>(capacity);
+            case "synchronized":
+                return Collections.synchronizedMap(new HashMap<K, V>(capacity));
+            case "stamped":
+                return new StampedLockMap<K, V>(capacity);
+            case "striped":
+                return new StripedMap<K, V>(capacity, STRIPES);
+            default:
+                throw new IllegalArgumentException("Unknown map kind: " + kind);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.benchmarks.contention;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * HashMap behind one StampedLock. get and containsKey first try an optimistic read and only take
+ * the read lock when a writer got in between; a read that trips over a half-resized table is
+ * thrown away the same way. Writes take the write lock. Whole-map passes (forEach, the views and
+ * their iterators) copy the entries under the read lock and run over the copy.
+ *
+ * <p>StampedLock lets a new reader in while a writer is waiting, so overlapping readers can keep a
+ * writer out indefinitely. Before taking the read lock, a reader therefore waits for the writes that
+ * had already started when it arrived; optimistic reads do not wait.
+ */
+public final class StampedLockMap<K, V> extends AbstractMap<K, V> {
+    private final HashMap<K, V> map;
+    private final StampedLock lock = new StampedLock();
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesDone = new AtomicLong();
+    private final Set<K> keys = new KeySet();
+
+    public StampedLockMap(int capacity) {
+        map = new HashMap<K, V>(capacity);
+    }
+
+    @Override
+    public V get(Object key) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                V value = map.get(key);
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                // Inconsistent table seen mid-write; retried under the read lock below.
+            }
+        }
+
+        stamp = readLock();
+        try {
+            return map.get(key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                boolean found = map.containsKey(key);
+                if (lock.validate(stamp)) {
+                    return found;
+                }
+            } catch (RuntimeException e) {
+                // Inconsistent table seen mid-write; retried under the read lock below.
+            }
+        }
+
+        stamp = readLock();
+        try {
+            return map.containsKey(key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return read(m -> m.containsValue(value));
+    }
+
+    @Override
+    public int size() {
+        return read(HashMap::size);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        long stamp = writeLock();
+        try {
+            return map.put(key, value);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        long stamp = writeLock();
+        try {
+            return map.remove(key);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = writeLock();
+        try {
+            map.clear();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        var entries = snapshot();
+        for (int i = 0; i < entries.length; i += 2) {
+            action.accept((K) entries[i], (V) entries[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(read(m -> new HashMap<K, V>(m))).entrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return keys;
+    }
+
+    private long readLock() {
+        long started = writesStarted.get();
+        while (writesDone.get() < started) {
+            Thread.yield();
+        }
+
+        return lock.readLock();
+    }
+
+    private long writeLock() {
+        writesStarted.incrementAndGet();
+        return lock.writeLock();
+    }
+
+    private void unlockWrite(long stamp) {
+        lock.unlockWrite(stamp);
+        writesDone.incrementAndGet();
+    }
+
+    // Keys and values interleaved, copied while holding the read lock for the copy only.
+    private Object[] snapshot() {
+        long stamp = readLock();
+        try {
+            var result = new Object[2 * map.size()];
+            int i = 0;
+            for (var e : map.entrySet()) {
+                result[i++] = e.getKey();
+                result[i++] = e.getValue();
+            }
+
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <R> R read(Function<HashMap<K, V>, R> op) {
+        long stamp = readLock();
+        try {
+            return op.apply(map);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+        @Override
+        public int size() {
+            return StampedLockMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return StampedLockMap.this.remove(o) != null;
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return Collections.unmodifiableList(read(m -> new ArrayList<K>(m.keySet()))).iterator();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super K> action) {
+            var entries = snapshot();
+            for (int i = 0; i < entries.length; i += 2) {
+                action.accept((K) entries[i]);
+            }
+        }
+    }
+}
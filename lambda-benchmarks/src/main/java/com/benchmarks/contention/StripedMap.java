@@ -0,0 +1,178 @@
+package com.benchmarks.contention;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Lock-striped map: keys are spread over a power-of-two number of HashMaps, each guarded by its own
+ * monitor, so threads touching different stripes never wait for each other. The stripe comes from
+ * the high bits of the scrambled hash, leaving the low bits HashMap indexes on spread within a
+ * stripe. forEach and size visit the stripes one at a time, so like ConcurrentHashMap they are not
+ * an atomic view of the whole map; entrySet() and keySet().iterator() iterate a copy.
+ */
+public final class StripedMap<K, V> extends AbstractMap<K, V> {
+    private final HashMap<K, V>[] stripes;
+    private final int shift;
+    private final Set<K> keys = new KeySet();
+
+    @SuppressWarnings("unchecked")
+    public StripedMap(int capacity, int stripeCount) {
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two: " + stripeCount);
+        }
+
+        stripes = (HashMap<K, V>[]) new HashMap<?, ?>[stripeCount];
+        shift = 32 - Integer.numberOfTrailingZeros(stripeCount);
+
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new HashMap<K, V>(Math.max(16, capacity / stripeCount));
+        }
+    }
+
+    private HashMap<K, V> stripe(Object key) {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+
+        int h = key == null ? 0 : key.hashCode() * 0x9E3779B9;
+        return stripes[h >>> shift];
+    }
+
+    @Override
+    public V get(Object key) {
+        var stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.containsKey(key);
+        }
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.containsValue(value)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        var stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        var stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                stripe.forEach(action);
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        var copy = new HashMap<K, V>();
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                copy.putAll(stripe);
+            }
+        }
+
+        return Collections.unmodifiableMap(copy).entrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return keys;
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+        @Override
+        public int size() {
+            return StripedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return StripedMap.this.remove(o) != null;
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            var copy = new ArrayList<K>();
+            for (var stripe : stripes) {
+                synchronized (stripe) {
+                    copy.addAll(stripe.keySet());
+                }
+            }
+
+            return Collections.unmodifiableList(copy).iterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super K> action) {
+            for (var stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.keySet().forEach(action);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.benchmarks.data;
+
+import java.util.SplittableRandom;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+import com.benchmarks.Student;
+
+/**
+ * Reproducible benchmark data. Every dataset is a function of {@code (seed, stream, n)} only:
+ * the stream id separates independent draws inside one Bench (targets, contains, filter...),
+ * and the output is cut into {@link #CHUNK}-sized chunks that are filled in parallel, each from
+ * its own {@link SplittableRandom}. Chunk seeds are drawn up front from one root generator, so
+ * the result does not depend on how many threads fill the chunks or in which order.
+ */
+public final class Datasets {
+    public static final int CHUNK = 1 << 14;
+
+    private Datasets() {
+    }
+
+    /** Sequential generator for scalars such as {@code target}. */
+    public static SplittableRandom random(long seed, int stream) {
+        return new SplittableRandom(mix(seed, stream));
+    }
+
+    /** {@code n} ints uniform in {@code [origin, bound)}. */
+    public static int[] ints(long seed, int stream, int n, int origin, int bound) {
+        var result = new int[n];
+
+        fill(seed, stream, n, (rnd, from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = rnd.nextInt(origin, bound);
+            }
+        });
+
+        return result;
+    }
+
+    /** Students with a uniform average in {@code [averageOrigin, averageBound)} and a random ID. */
+    public static Student[] students(long seed, int stream, int n, int averageOrigin, int averageBound) {
+        return students(seed, stream, n, averageOrigin, averageBound, null);
+    }
+
+    /**
+     * Students with a uniform average in {@code [averageOrigin, averageBound)} and names drawn from
+     * {@link Names}. {@code id} receives the 1-based position; when null, IDs are random longs.
+     */
+    public static Student[] students(long seed, int stream, int n, int averageOrigin, int averageBound,
+            IntToLongFunction id) {
+        var result = new Student[n];
+        var first = Names.FIRST;
+        var last = Names.LAST;
+        int maxF = first.size();
+        int maxL = last.size();
+
+        fill(seed, stream, n, (rnd, from, to) -> {
+            for (int i = from; i < to; i++) {
+                var s = new Student();
+                s.average = rnd.nextInt(averageOrigin, averageBound);
+                s.ID = id == null ? rnd.nextLong() : id.applyAsLong(i + 1);
+                s.firstName = first.get(rnd.nextInt(maxF));
+                s.lastName = last.get(rnd.nextInt(maxL));
+
+                result[i] = s;
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * HashMapClass keys, {@code "%d - %c%c%d"} of the 1-based position, both initials and the ID,
+     * built in parallel with a StringBuilder instead of one String.format per entry.
+     */
+    public static String[] studentKeys(Student[] students) {
+        var result = new String[students.length];
+
+        IntStream.range(0, chunks(students.length)).parallel().forEach(c -> {
+            var sb = new StringBuilder(32);
+            int to = Math.min(students.length, (c + 1) * CHUNK);
+
+            for (int i = c * CHUNK; i < to; i++) {
+                var s = students[i];
+                sb.setLength(0);
+                result[i] = sb.append(i + 1).append(" - ").append(s.firstName.charAt(0))
+                        .append(s.lastName.charAt(0)).append(s.ID).toString();
+            }
+        });
+
+        return result;
+    }
+
+    private interface ChunkFiller {
+        void fill(SplittableRandom rnd, int from, int to);
+    }
+
+    private static void fill(long seed, int stream, int n, ChunkFiller filler) {
+        int chunks = chunks(n);
+        var root = random(seed, stream);
+        var seeds = new long[chunks];
+
+        for (int c = 0; c < chunks; c++) {
+            seeds[c] = root.nextLong();
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                filler.fill(new SplittableRandom(seeds[c]), c * CHUNK, Math.min(n, (c + 1) * CHUNK)));
+    }
+
+    private static int chunks(int n) {
+        return (n + CHUNK - 1) / CHUNK;
+    }
+
+    private static long mix(long seed, int stream) {
+        long z = seed + (stream + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
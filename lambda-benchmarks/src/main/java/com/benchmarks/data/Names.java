@@ -0,0 +1,27 @@
+package com.benchmarks.data;
+
+import java.util.List;
+
+/**
+ * First and last names every Student benchmark draws from. Bench states copy these into their own
+ * {@code firstNames}/{@code lastNames} lists so the populate benchmarks keep indexing an ArrayList.
+ */
+public final class Names {
+
+    public static final List<String> FIRST = List.of(
+            // Simple Male
+            "Juan", "Carlos", "Manuel", "Francisco", "Mauricio", "Eduardo",
+            // Simple Female
+            "Fernanda", "María", "Sofía", "Ana", "Carla", "Marlene",
+            // Composite Male
+            "Juan Manuel", "Luis Carlos", "Manuel Alejandro", "Javier Francisco", "Luis Eduardo", "José Luis",
+            // Composite Female
+            "María Fernanda", "María Jose", "Sofía Paulina", "Ana Belén", "Daniela Alejandra", "Luz Angélica");
+
+    public static final List<String> LAST = List.of("García", "Rodríguez", "Hernández",
+            "López", "Martínez", "González", "Pérez", "Sánchez", "Ramírez", "Torres", "Flores", "Rivera", "Gómez",
+            "Díaz", "Cruz", "Morales", "Reyes", "Gutiérrez", "Ortiz");
+
+    private Names() {
+    }
+}
@@ -0,0 +1,167 @@
+package com.benchmarks.data;
+
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.ArrayList.ArrayListInt;
+import com.benchmarks.ArrayList.ArrayListLong;
+import com.benchmarks.ArrayList.ArrayListClass;
+import com.benchmarks.HashMap.HashMapInt;
+import com.benchmarks.HashMap.HashMapLong;
+import com.benchmarks.HashMap.HashMapClass;
+import com.benchmarks.HashSet.HashSetInt;
+import com.benchmarks.HashSet.HashSetLong;
+import com.benchmarks.HashSet.HashSetClass;
+import com.benchmarks.LinkedList.LinkedListInt;
+import com.benchmarks.LinkedList.LinkedListLong;
+import com.benchmarks.LinkedList.LinkedListClass;
+
+import org.openjdk.jmh.annotations.*;
+
+// Trial setup time of the Bench states, one full setup per op, with and without snapshots. The first
+// snapshots=true op of a (class, N, seed) writes the files, so keep at least one warmup iteration.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SetupTime {
+
+    @State(Scope.Benchmark)
+    public static class Options {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        @Param({"false","true"})
+        public boolean snapshots;
+    }
+
+    @Benchmark
+    public ArrayListInt.Bench arrayListInt(Options o) {
+        var b = new ArrayListInt.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public ArrayListLong.Bench arrayListLong(Options o) {
+        var b = new ArrayListLong.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public ArrayListClass.Bench arrayListClass(Options o) {
+        var b = new ArrayListClass.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupStudents();
+
+        return b;
+    }
+
+    @Benchmark
+    public HashMapInt.Bench hashMapInt(Options o) {
+        var b = new HashMapInt.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public HashMapLong.Bench hashMapLong(Options o) {
+        var b = new HashMapLong.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public HashMapClass.Bench hashMapClass(Options o) {
+        var b = new HashMapClass.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public HashSetInt.Bench hashSetInt(Options o) {
+        var b = new HashSetInt.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public HashSetLong.Bench hashSetLong(Options o) {
+        var b = new HashSetLong.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public HashSetClass.Bench hashSetClass(Options o) {
+        var b = new HashSetClass.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public LinkedListInt.Bench linkedListInt(Options o) {
+        var b = new LinkedListInt.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public LinkedListLong.Bench linkedListLong(Options o) {
+        var b = new LinkedListLong.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupData();
+
+        return b;
+    }
+
+    @Benchmark
+    public LinkedListClass.Bench linkedListClass(Options o) {
+        var b = new LinkedListClass.Bench();
+        b.N = o.N;
+        b.seed = o.seed;
+        b.snapshots = o.snapshots;
+        b.setupStudents();
+
+        return b;
+    }
+}
@@ -0,0 +1,216 @@
+package com.benchmarks.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.benchmarks.Student;
+
+/**
+ * On-disk cache of generated datasets, one directory per {@code (class, N, seed)}:
+ * {@code <root>/v1/<class>/N<n>-seed<seed>/<name>.bin}. A dataset is generated and written the
+ * first time it is asked for; later trials (and other forks) map the file read-only through a
+ * {@link FileChannel} and copy it out in bulk.
+ *
+ * <p>Files are native-endian and start with a magic, format version and element count. Int
+ * datasets are followed by the ints; Student datasets by four columns: averages, IDs, and the
+ * first- and last-name indexes into {@link Names}. A file that is unreadable or does not match is
+ * regenerated. The root is {@code -Dbenchmarks.snapshots=<dir>}, by default under
+ * {@code java.io.tmpdir}; delete it after changing a generator.
+ */
+public final class Snapshot {
+    private static final int MAGIC = 0x534E4150;
+    private static final int VERSION = 1;
+    private static final int INTS = 1;
+    private static final int STUDENTS = 2;
+    private static final int HEADER = 16;
+    private static final int STUDENT_BYTES = Integer.BYTES + Long.BYTES + 2;
+
+    private final Path directory;
+
+    private Snapshot(Path directory) {
+        this.directory = directory;
+    }
+
+    /** Cache for {@code owner}'s data at size {@code n} and {@code seed}; when disabled it only runs the generators. */
+    public static Snapshot open(Class<?> owner, int n, long seed, boolean enabled) {
+        if (!enabled) {
+            return new Snapshot(null);
+        }
+
+        return new Snapshot(root().resolve(owner.getName()).resolve("N" + n + "-seed" + seed));
+    }
+
+    public static Path root() {
+        var configured = System.getProperty("benchmarks.snapshots");
+        var base = configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("java.io.tmpdir"), "lambda-benchmarks-snapshots");
+
+        return base.resolve("v" + VERSION);
+    }
+
+    public int[] ints(String name, Supplier<int[]> generator) {
+        if (directory == null) {
+            return generator.get();
+        }
+
+        var file = directory.resolve(name + ".bin");
+        var loaded = read(file, INTS, Integer.BYTES);
+        if (loaded != null) {
+            var result = new int[loaded.getInt(12)];
+            loaded.position(HEADER);
+            loaded.asIntBuffer().get(result);
+            return result;
+        }
+
+        var result = generator.get();
+        var buffer = header(INTS, result.length, (long) result.length * Integer.BYTES);
+        buffer.asIntBuffer().put(result);
+        write(file, buffer);
+
+        return result;
+    }
+
+    public Student[] students(String name, Supplier<Student[]> generator) {
+        if (directory == null) {
+            return generator.get();
+        }
+
+        var file = directory.resolve(name + ".bin");
+        var loaded = read(file, STUDENTS, STUDENT_BYTES);
+        if (loaded != null) {
+            return decode(loaded, loaded.getInt(12));
+        }
+
+        var result = generator.get();
+        write(file, encode(result));
+
+        return result;
+    }
+
+    private static ByteBuffer encode(Student[] students) {
+        int n = students.length;
+        var first = indexes(Names.FIRST);
+        var last = indexes(Names.LAST);
+        var buffer = header(STUDENTS, n, (long) n * STUDENT_BYTES);
+
+        int ids = HEADER + n * Integer.BYTES;
+        int names = ids + n * Long.BYTES;
+
+        for (int i = 0; i < n; i++) {
+            var s = students[i];
+            var f = first.get(s.firstName);
+            var l = last.get(s.lastName);
+            if (f == null || l == null) {
+                throw new IllegalArgumentException("Student name not in Names: " + s.firstName + " " + s.lastName);
+            }
+
+            buffer.putInt(HEADER + i * Integer.BYTES, s.average);
+            buffer.putLong(ids + i * Long.BYTES, s.ID);
+            buffer.put(names + i, f.byteValue());
+            buffer.put(names + n + i, l.byteValue());
+        }
+
+        return buffer;
+    }
+
+    private static Student[] decode(ByteBuffer buffer, int n) {
+        var averages = new int[n];
+        var ids = new long[n];
+        var first = new byte[n];
+        var last = new byte[n];
+
+        buffer.position(HEADER);
+        buffer.asIntBuffer().get(averages);
+        buffer.position(HEADER + n * Integer.BYTES);
+        buffer.asLongBuffer().get(ids);
+        buffer.position(HEADER + n * (Integer.BYTES + Long.BYTES));
+        buffer.get(first).get(last);
+
+        var result = new Student[n];
+        for (int i = 0; i < n; i++) {
+            var s = new Student();
+            s.average = averages[i];
+            s.ID = ids[i];
+            s.firstName = Names.FIRST.get(first[i]);
+            s.lastName = Names.LAST.get(last[i]);
+
+            result[i] = s;
+        }
+
+        return result;
+    }
+
+    private static IdentityHashMap<String, Integer> indexes(List<String> names) {
+        var result = new IdentityHashMap<String, Integer>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            result.put(names.get(i), i);
+        }
+
+        return result;
+    }
+
+    private static ByteBuffer header(int kind, int n, long payload) {
+        long size = HEADER + payload;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshot too large: " + size + " bytes");
+        }
+
+        return ByteBuffer.allocate((int) size).order(ByteOrder.nativeOrder())
+                .putInt(0, MAGIC).putInt(4, VERSION).putInt(8, kind).putInt(12, n);
+    }
+
+    private static ByteBuffer read(Path file, int kind, int elementBytes) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.nativeOrder());
+
+            if (buffer.capacity() >= HEADER && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION
+                    && buffer.getInt(8) == kind
+                    && buffer.capacity() == HEADER + (long) buffer.getInt(12) * elementBytes) {
+                return buffer;
+            }
+        } catch (IOException e) {
+            System.err.println("Unreadable snapshot " + file + ", regenerating: " + e);
+        }
+
+        return null;
+    }
+
+    // Written to a temporary file and moved into place, so concurrent forks never map a partial file.
+    private static void write(Path file, ByteBuffer buffer) {
+        try {
+            Files.createDirectories(file.getParent());
+            var tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            try (var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                buffer.position(0);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write snapshot " + file + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.benchmarks.flow;
+
+import java.util.List;
+
+// Items moving through the pipeline together, stamped when the source created them.
+public final class Batch<T> {
+    public final List<T> items;
+    public final long createdNanos;
+
+    public Batch(List<T> items, long createdNanos) {
+        this.items = items;
+        this.createdNanos = createdNanos;
+    }
+}
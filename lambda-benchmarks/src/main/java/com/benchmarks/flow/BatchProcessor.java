@@ -0,0 +1,52 @@
+package com.benchmarks.flow;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * Pipeline stage that transforms each upstream batch and publishes the result. It keeps at most
+ * {@code inFlight} batches requested from upstream and asks for the next one only after handing
+ * the previous result downstream. Because {@link SubmissionPublisher#submit} blocks while the
+ * downstream buffer is full, a slow consumer stalls this stage, which then stops requesting.
+ * Empty results are dropped.
+ */
+public class BatchProcessor<T, R> extends SubmissionPublisher<Batch<R>> implements Flow.Processor<Batch<T>, Batch<R>> {
+    private final Function<List<T>, List<R>> transform;
+    private final int inFlight;
+    private Flow.Subscription subscription;
+
+    public BatchProcessor(Executor executor, int bufferSize, int inFlight, Function<List<T>, List<R>> transform) {
+        super(executor, bufferSize);
+        this.transform = transform;
+        this.inFlight = inFlight;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(inFlight);
+    }
+
+    @Override
+    public void onNext(Batch<T> batch) {
+        var result = transform.apply(batch.items);
+        if (!result.isEmpty()) {
+            submit(new Batch<R>(result, batch.createdNanos));
+        }
+
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close();
+    }
+}
@@ -0,0 +1,149 @@
+package com.benchmarks.flow;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ArrayList.ArrayListClass;
+import com.benchmarks.Student;
+
+import org.openjdk.jmh.annotations.*;
+
+// populate -> filter -> map as a push pipeline (SubmissionPublisher source, two BatchProcessors,
+// LatencySubscriber) against the synchronous stream. Students are generated as in
+// ArrayListClass.lambdaPopulate and mapped to the lambdaMap strings. The filter keeps only the
+// name and ID terms of lambdaFilter: generated averages are negative, so its average bounds would
+// reject everything. The Latency counters report delivered items and their summed latency in
+// nanoseconds; the mean per-item latency is latencyNanos / items. Both sum correctly across
+// threads, a mean would not. For the stream every item is delivered when the result list is complete.
+public class FlowPipelineClass {
+    public static final int BATCH_SIZE = 256;
+
+    @State(Scope.Thread)
+    public static class Bench extends ArrayListClass.Bench {
+    }
+
+    @State(Scope.Benchmark)
+    public static class FlowOptions {
+        // Per-subscriber buffer of each publisher, rounded up to a power of two by SubmissionPublisher.
+        @Param({"16","256","1024"})
+        public int bufferSize;
+
+        // Batches each stage keeps requested from its upstream.
+        @Param({"1","4","16"})
+        public int inFlight;
+
+        public ExecutorService executor;
+
+        @Setup(Level.Trial)
+        public void setupExecutor() {
+            executor = Executors.newCachedThreadPool();
+        }
+
+        @TearDown(Level.Trial)
+        public void shutdownExecutor() {
+            executor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Latency {
+        public long items;
+        public long latencyNanos;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            items = 0;
+            latencyNanos = 0;
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> streamPipeline(Bench b, Latency latency) {
+        var rnd = new Random();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+        long start = System.nanoTime();
+
+        var result = b.data.stream().map(i -> new Student() {
+            {
+                firstName = b.firstNames.get(rnd.nextInt(maxF));
+                lastName = b.lastNames.get(rnd.nextInt(maxL));
+                average = rnd.nextInt(100 - 50) - 50;
+                ID = i + rnd.nextLong();
+            }
+        })
+        .filter(s -> s.firstName.contains("i") && s.ID > b.target)
+        .map(s -> String.format("%s, %s", s.lastName, s.firstName))
+        .collect(Collectors.toList());
+
+        latency.items += result.size();
+        latency.latencyNanos += (System.nanoTime() - start) * result.size();
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long flowPipeline(Bench b, FlowOptions o, Latency latency) {
+        var rnd = new Random();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        var sink = new LatencySubscriber<String>(o.inFlight);
+        var mapper = new BatchProcessor<Student, String>(o.executor, o.bufferSize, o.inFlight, batch -> {
+            var mapped = new ArrayList<String>(batch.size());
+            for (var s : batch) {
+                mapped.add(String.format("%s, %s", s.lastName, s.firstName));
+            }
+
+            return mapped;
+        });
+        var filter = new BatchProcessor<Student, Student>(o.executor, o.bufferSize, o.inFlight, batch -> {
+            var kept = new ArrayList<Student>(batch.size());
+            for (var s : batch) {
+                if (s.firstName.contains("i") && s.ID > b.target) {
+                    kept.add(s);
+                }
+            }
+
+            return kept;
+        });
+
+        try (var source = new SubmissionPublisher<Batch<Student>>(o.executor, o.bufferSize)) {
+            source.subscribe(filter);
+            filter.subscribe(mapper);
+            mapper.subscribe(sink);
+
+            var batch = new ArrayList<Student>(BATCH_SIZE);
+            for (var i : b.data) {
+                batch.add(new Student() {
+                    {
+                        firstName = b.firstNames.get(rnd.nextInt(maxF));
+                        lastName = b.lastNames.get(rnd.nextInt(maxL));
+                        average = rnd.nextInt(100 - 50) - 50;
+                        ID = i + rnd.nextLong();
+                    }
+                });
+
+                if (batch.size() == BATCH_SIZE) {
+                    source.submit(new Batch<Student>(batch, System.nanoTime()));
+                    batch = new ArrayList<Student>(BATCH_SIZE);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                source.submit(new Batch<Student>(batch, System.nanoTime()));
+            }
+        }
+
+        long items = sink.done().join();
+        latency.items += items;
+        latency.latencyNanos += sink.latencyNanos();
+
+        return items;
+    }
+}
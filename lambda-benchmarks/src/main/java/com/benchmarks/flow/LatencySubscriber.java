@@ -0,0 +1,59 @@
+package com.benchmarks.flow;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Terminal stage: counts the delivered items and sums, per item, the time from its batch's
+ * creation to its arrival here. {@link #done()} completes with the item count once upstream
+ * completes. Keeps {@code inFlight} batches requested, like {@link BatchProcessor}.
+ */
+public class LatencySubscriber<T> implements Flow.Subscriber<Batch<T>> {
+    private final int inFlight;
+    private final CompletableFuture<Long> done = new CompletableFuture<Long>();
+    private Flow.Subscription subscription;
+    private long items;
+    private long latencyNanos;
+
+    public LatencySubscriber(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(inFlight);
+    }
+
+    @Override
+    public void onNext(Batch<T> batch) {
+        int size = batch.items.size();
+        items += size;
+        latencyNanos += (System.nanoTime() - batch.createdNanos) * size;
+
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        done.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        done.complete(items);
+    }
+
+    public CompletableFuture<Long> done() {
+        return done;
+    }
+
+    // Only meaningful after done() has completed, which publishes the fields to the caller.
+    public long items() {
+        return items;
+    }
+
+    public long latencyNanos() {
+        return latencyNanos;
+    }
+}
@@ -0,0 +1,231 @@
+package com.benchmarks.forkjoin;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ParallelPool;
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListClass ops through ForkJoinOps, against parallel streams in the same pool and the plain loops.
+public class ForkJoinClass {
+
+    @State(Scope.Thread)
+    public static class Bench {
+
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public ArrayList<Student> students;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupStudents() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = new ArrayList<Student>(Arrays.asList(Datasets.students(seed, 1, N, -50, 0)));
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var sb = new StringBuilder();
+
+        for (int i = 0; i < b.students.size(); i++) {
+            Student s = b.students.get(i);
+            var passed = s.average > 60 ? Integer.toString(s.average) : "Failed";
+            sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString());
+    }
+
+    // Formats in parallel and joins the rows in order on the calling thread.
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String forkJoinReduce(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> String.join("", ForkJoinOps.map(b.students,
+                s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"),
+                t.threshold)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        int count = 0;
+        int size = b.students.size();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.students.parallelStream()
+                .filter(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int forkJoinIterate(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> (int) ForkJoinOps.count(b.students,
+                s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        int size = b.students.size();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().anyMatch(
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean forkJoinContains(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.anyMatch(b.students,
+                s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es"),
+                t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopFilter(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> forkJoinFilter(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.filter(b.students,
+                s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopCopy(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+
+            result.add(new Student() {
+                {
+                    average = s.average;
+                    ID = s.ID;
+                    firstName = s.firstName;
+                    lastName = s.lastName;
+                }
+            });
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream().map(s -> new Student() {
+            {
+                average = s.average;
+                ID = s.ID;
+                firstName = s.firstName;
+                lastName = s.lastName;
+            }
+        }).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> forkJoinCopy(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.<Student, Student>map(b.students, s -> new Student() {
+            {
+                average = s.average;
+                ID = s.ID;
+                firstName = s.firstName;
+                lastName = s.lastName;
+            }
+        }, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        int size = b.students.size();
+        var result = new HashMap<Long, String>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            var value = String.format("%s, %s", s.lastName, s.firstName);
+
+            result.put(s.ID, value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.students.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+
+    // Formats the values in parallel; the HashMap itself is filled on the calling thread.
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> forkJoinMap(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> {
+            var values = ForkJoinOps.map(b.students, s -> String.format("%s, %s", s.lastName, s.firstName), t.threshold);
+            var result = new HashMap<Long, String>(values.size());
+
+            for (int i = 0; i < values.size(); i++) {
+                result.put(b.students.get(i).ID, values.get(i));
+            }
+
+            return result;
+        });
+    }
+}
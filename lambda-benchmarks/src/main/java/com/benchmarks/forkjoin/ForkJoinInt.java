@@ -0,0 +1,209 @@
+package com.benchmarks.forkjoin;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListInt ops through ForkJoinOps, against parallel streams in the same pool and the plain loops.
+// forkJoinArray* run the same tasks over int[] copies of the lists.
+public class ForkJoinInt {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public ArrayList<Integer> data;
+        public ArrayList<Integer> contains;
+        public ArrayList<Integer> filter;
+        public int[] dataArray;
+        public int[] containsArray;
+        public int[] filterArray;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new ArrayList<Integer>(N);
+            for (int i = 1; i <= N; i++) {
+                data.add(i);
+            }
+
+            target = Datasets.random(seed, 0).nextInt(-1, 99);
+
+            contains = new ArrayList<Integer>(N);
+            for (int v : Datasets.ints(seed, 1, N, -1, 99)) {
+                contains.add(v);
+            }
+
+            filter = new ArrayList<Integer>(N);
+            for (int v : Datasets.ints(seed, 2, N, N, 3 * N)) {
+                filter.add(v);
+            }
+
+            dataArray = data.stream().mapToInt(Integer::intValue).toArray();
+            containsArray = contains.stream().mapToInt(Integer::intValue).toArray();
+            filterArray = filter.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopReduce(Bench b) {
+        int total = 0;
+        for (int i = 0; i < b.data.size(); i++) {
+            total += b.data.get(i);
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0, Integer::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int forkJoinReduce(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.reduce(b.data, 0, Integer::sum, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int forkJoinArrayReduce(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> (int) ForkJoinOps.sum(b.dataArray, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        int count = 0;
+        for (int i = 0; i < b.data.size(); i++) {
+            if (b.data.get(i) > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> (int) b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int forkJoinIterate(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> (int) ForkJoinOps.count(b.data, n -> n > 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int forkJoinArrayIterate(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> (int) ForkJoinOps.count(b.dataArray, n -> n > 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        for (int i = 0; i < b.contains.size(); i++) {
+            if (b.contains.get(i) == b.target) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean forkJoinContains(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.anyMatch(b.contains, n -> n == b.target, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean forkJoinArrayContains(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.anyMatch(b.containsArray, n -> n == b.target, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> loopFilter(Bench b) {
+        var result = new ArrayList<Integer>();
+        for (int i = 0; i < b.filter.size(); i++) {
+            if (b.filter.get(i) >= 0) {
+                result.add(b.filter.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filter.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> forkJoinFilter(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.filter(b.filter, n -> n >= 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] forkJoinArrayFilter(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.filter(b.filterArray, n -> n >= 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> loopCopy(Bench b) {
+        var result = new ArrayList<Integer>(b.data.size());
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> forkJoinCopy(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.data, n -> n, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] forkJoinArrayCopy(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.dataArray, n -> n, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> loopMap(Bench b) {
+        var result = new ArrayList<Integer>(b.data.size());
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i) * b.data.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * n).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> forkJoinMap(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.data, n -> n * n, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] forkJoinArrayMap(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.dataArray, n -> n * n, t.threshold));
+    }
+}
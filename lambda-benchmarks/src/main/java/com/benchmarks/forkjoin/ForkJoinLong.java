@@ -0,0 +1,213 @@
+package com.benchmarks.forkjoin;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ParallelPool;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListLong ops through ForkJoinOps, against parallel streams in the same pool and the plain loops.
+// forkJoinArray* run the same tasks over long[] copies of the lists.
+public class ForkJoinLong {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public long target;
+        public ArrayList<Long> data;
+        public ArrayList<Long> contains;
+        public ArrayList<Long> filtering;
+        public long[] dataArray;
+        public long[] containsArray;
+        public long[] filteringArray;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new ArrayList<Long>(N);
+            contains = new ArrayList<Long>(N);
+            filtering = new ArrayList<Long>(N);
+            target = (long) Datasets.random(seed, 0).nextInt(101) * N;
+
+            for (int i = 1; i <= N; i++) {
+                data.add((long) (i * N));
+            }
+
+            for (int v : Datasets.ints(seed, 1, N, 0, 101)) {
+                contains.add((long) v * N);
+            }
+
+            for (int v : Datasets.ints(seed, 2, N, N, 3 * N)) {
+                filtering.add((long) v);
+            }
+
+            dataArray = data.stream().mapToLong(Long::longValue).toArray();
+            containsArray = contains.stream().mapToLong(Long::longValue).toArray();
+            filteringArray = filtering.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loopReduce(Bench b) {
+        long total = 0L;
+
+        for (int i = 0; i < b.data.size(); i++) {
+            total += b.data.get(i);
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long forkJoinReduce(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.reduce(b.data, 0L, Long::sum, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long forkJoinArrayReduce(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.sum(b.dataArray, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loopIterate(Bench b) {
+        long count = 0L;
+
+        for (int i = 0; i < b.data.size(); i++) {
+            if (b.data.get(i) > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelIterate(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long forkJoinIterate(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.count(b.data, n -> n > 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long forkJoinArrayIterate(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.count(b.dataArray, n -> n > 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        for (int i = 0; i < b.contains.size(); i++) {
+            if (b.contains.get(i) == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean parallelContains(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.contains.parallelStream().anyMatch(n -> n == b.target));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean forkJoinContains(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.anyMatch(b.contains, n -> n == b.target, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean forkJoinArrayContains(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.anyMatch(b.containsArray, n -> n == b.target, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> loopFilter(Bench b) {
+        var result = new ArrayList<Long>();
+
+        for (int i = 0; i < b.filtering.size(); i++) {
+            if (b.filtering.get(i) >= 0) {
+                result.add(b.filtering.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.filtering.parallelStream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> forkJoinFilter(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.filter(b.filtering, n -> n >= 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] forkJoinArrayFilter(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.filter(b.filteringArray, n -> n >= 0, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> loopCopy(Bench b) {
+        var result = new ArrayList<Long>(b.data.size());
+
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelCopy(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> forkJoinCopy(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.data, n -> n, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] forkJoinArrayCopy(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.dataArray, n -> n, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> loopMap(Bench b) {
+        var result = new ArrayList<Long>(b.data.size());
+
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i) * b.N);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().map(n -> n * b.N).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> forkJoinMap(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.data, n -> n * b.N, t.threshold));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] forkJoinArrayMap(Bench b, ParallelPool p, SplitThreshold t) {
+        return p.invoke(() -> ForkJoinOps.map(b.dataArray, n -> n * b.N, t.threshold));
+    }
+}
@@ -0,0 +1,783 @@
+package com.benchmarks.forkjoin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * RecursiveTask implementations of reduce, count, anyMatch, filter and map over random-access
+ * lists and primitive arrays. Ranges are halved until they hold at most {@code threshold}
+ * elements, which are then processed with a plain loop. Tasks run in the pool of the calling
+ * worker thread, or in the common pool when called from outside a ForkJoinPool.
+ *
+ * anyMatch shares one flag between all of its subtasks: once any leaf finds a match, pending
+ * subtasks return without scanning and leaves still running stop at their next check.
+ */
+public final class ForkJoinOps {
+    // Elements a leaf scans between checks of the anyMatch flag.
+    private static final int CANCEL_CHECK_INTERVAL = 256;
+
+    private ForkJoinOps() {
+    }
+
+    public static <T> T reduce(List<T> list, T identity, BinaryOperator<T> op, int threshold) {
+        checkThreshold(threshold);
+        checkRandomAccess(list);
+        return new ReduceTask<T>(list, 0, list.size(), identity, op, threshold).invoke();
+    }
+
+    public static <T> long count(List<T> list, Predicate<? super T> predicate, int threshold) {
+        checkThreshold(threshold);
+        checkRandomAccess(list);
+        return new CountTask<T>(list, 0, list.size(), predicate, threshold).invoke();
+    }
+
+    public static <T> boolean anyMatch(List<T> list, Predicate<? super T> predicate, int threshold) {
+        checkThreshold(threshold);
+        checkRandomAccess(list);
+        var found = new AtomicBoolean();
+        new AnyMatchTask<T>(list, 0, list.size(), predicate, threshold, found).invoke();
+
+        return found.get();
+    }
+
+    public static <T> ArrayList<T> filter(List<T> list, Predicate<? super T> predicate, int threshold) {
+        checkThreshold(threshold);
+        checkRandomAccess(list);
+        var task = new FilterTask<T>(list, 0, list.size(), predicate, threshold);
+        task.invoke();
+
+        return task.collect();
+    }
+
+    public static <T, R> ArrayList<R> map(List<T> list, Function<? super T, ? extends R> mapper, int threshold) {
+        checkThreshold(threshold);
+        checkRandomAccess(list);
+        // Leaves set disjoint index ranges of one pre-sized list; invoke() publishes their writes.
+        int size = list.size();
+        var result = new ArrayList<R>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(null);
+        }
+
+        new MapTask<T, R>(list, 0, size, mapper, result, threshold).invoke();
+
+        return result;
+    }
+
+    public static long sum(int[] array, int threshold) {
+        checkThreshold(threshold);
+        return new IntSumTask(array, 0, array.length, threshold).invoke();
+    }
+
+    public static long count(int[] array, IntPredicate predicate, int threshold) {
+        checkThreshold(threshold);
+        return new IntCountTask(array, 0, array.length, predicate, threshold).invoke();
+    }
+
+    public static boolean anyMatch(int[] array, IntPredicate predicate, int threshold) {
+        checkThreshold(threshold);
+        var found = new AtomicBoolean();
+        new IntAnyMatchTask(array, 0, array.length, predicate, threshold, found).invoke();
+
+        return found.get();
+    }
+
+    public static int[] filter(int[] array, IntPredicate predicate, int threshold) {
+        checkThreshold(threshold);
+        var task = new IntFilterTask(array, 0, array.length, predicate, threshold);
+        task.invoke();
+
+        return task.collect();
+    }
+
+    public static int[] map(int[] array, IntUnaryOperator mapper, int threshold) {
+        checkThreshold(threshold);
+        var result = new int[array.length];
+        new IntMapTask(array, 0, array.length, mapper, result, threshold).invoke();
+
+        return result;
+    }
+
+    public static long sum(long[] array, int threshold) {
+        checkThreshold(threshold);
+        return new LongSumTask(array, 0, array.length, threshold).invoke();
+    }
+
+    public static long count(long[] array, LongPredicate predicate, int threshold) {
+        checkThreshold(threshold);
+        return new LongCountTask(array, 0, array.length, predicate, threshold).invoke();
+    }
+
+    public static boolean anyMatch(long[] array, LongPredicate predicate, int threshold) {
+        checkThreshold(threshold);
+        var found = new AtomicBoolean();
+        new LongAnyMatchTask(array, 0, array.length, predicate, threshold, found).invoke();
+
+        return found.get();
+    }
+
+    public static long[] filter(long[] array, LongPredicate predicate, int threshold) {
+        checkThreshold(threshold);
+        var task = new LongFilterTask(array, 0, array.length, predicate, threshold);
+        task.invoke();
+
+        return task.collect();
+    }
+
+    public static long[] map(long[] array, LongUnaryOperator mapper, int threshold) {
+        checkThreshold(threshold);
+        var result = new long[array.length];
+        new LongMapTask(array, 0, array.length, mapper, result, threshold).invoke();
+
+        return result;
+    }
+
+    // A range of one element would split into an empty half and itself forever.
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+    }
+
+    private static void checkRandomAccess(List<?> list) {
+        if (!(list instanceof RandomAccess)) {
+            throw new IllegalArgumentException("ForkJoinOps needs a RandomAccess list, got " + list.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ReduceTask<T> extends RecursiveTask<T> {
+        private final List<T> list;
+        private final int from, to, threshold;
+        private final T identity;
+        private final BinaryOperator<T> op;
+
+        ReduceTask(List<T> list, int from, int to, T identity, BinaryOperator<T> op, int threshold) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.identity = identity;
+            this.op = op;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= threshold) {
+                var result = identity;
+                for (int i = from; i < to; i++) {
+                    result = op.apply(result, list.get(i));
+                }
+
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new ReduceTask<T>(list, from, mid, identity, op, threshold);
+            left.fork();
+            var right = new ReduceTask<T>(list, mid, to, identity, op, threshold).compute();
+
+            return op.apply(left.join(), right);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class CountTask<T> extends RecursiveTask<Long> {
+        private final List<T> list;
+        private final int from, to, threshold;
+        private final Predicate<? super T> predicate;
+
+        CountTask(List<T> list, int from, int to, Predicate<? super T> predicate, int threshold) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                long count = 0;
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(list.get(i))) {
+                        count++;
+                    }
+                }
+
+                return count;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new CountTask<T>(list, from, mid, predicate, threshold);
+            left.fork();
+            long right = new CountTask<T>(list, mid, to, predicate, threshold).compute();
+
+            return left.join() + right;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class AnyMatchTask<T> extends RecursiveAction {
+        private final List<T> list;
+        private final int from, to, threshold;
+        private final Predicate<? super T> predicate;
+        private final AtomicBoolean found;
+
+        AnyMatchTask(List<T> list, int from, int to, Predicate<? super T> predicate, int threshold,
+                AtomicBoolean found) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    if ((i - from) % CANCEL_CHECK_INTERVAL == 0 && found.get()) {
+                        return;
+                    }
+
+                    if (predicate.test(list.get(i))) {
+                        found.set(true);
+                        return;
+                    }
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new AnyMatchTask<T>(list, from, mid, predicate, threshold, found);
+            left.fork();
+            new AnyMatchTask<T>(list, mid, to, predicate, threshold, found).compute();
+
+            if (found.get() && left.tryUnfork()) {
+                return;
+            }
+
+            left.join();
+        }
+    }
+
+    // Leaves keep their matches and inner nodes only their children, so the root can size the result
+    // once and copy every match a single time instead of concatenating at each level.
+    @SuppressWarnings("serial")
+    private static final class FilterTask<T> extends RecursiveAction {
+        private final List<T> list;
+        private final int from, to, threshold;
+        private final Predicate<? super T> predicate;
+        private FilterTask<T> left, right;
+        private ArrayList<T> matches;
+        private int size;
+
+        FilterTask(List<T> list, int from, int to, Predicate<? super T> predicate, int threshold) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                matches = new ArrayList<T>(to - from);
+                for (int i = from; i < to; i++) {
+                    var item = list.get(i);
+                    if (predicate.test(item)) {
+                        matches.add(item);
+                    }
+                }
+
+                size = matches.size();
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            left = new FilterTask<T>(list, from, mid, predicate, threshold);
+            right = new FilterTask<T>(list, mid, to, predicate, threshold);
+            left.fork();
+            right.compute();
+            left.join();
+            size = left.size + right.size;
+        }
+
+        ArrayList<T> collect() {
+            var result = new ArrayList<T>(size);
+            copyInto(result);
+            return result;
+        }
+
+        private void copyInto(ArrayList<T> result) {
+            if (matches != null) {
+                result.addAll(matches);
+            } else {
+                left.copyInto(result);
+                right.copyInto(result);
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MapTask<T, R> extends RecursiveAction {
+        private final List<T> list;
+        private final int from, to, threshold;
+        private final Function<? super T, ? extends R> mapper;
+        private final ArrayList<R> result;
+
+        MapTask(List<T> list, int from, int to, Function<? super T, ? extends R> mapper, ArrayList<R> result,
+                int threshold) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+            this.result = result;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    result.set(i, mapper.apply(list.get(i)));
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new MapTask<T, R>(list, from, mid, mapper, result, threshold),
+                    new MapTask<T, R>(list, mid, to, mapper, result, threshold));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntSumTask extends RecursiveTask<Long> {
+        private final int[] array;
+        private final int from, to, threshold;
+
+        IntSumTask(int[] array, int from, int to, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                long sum = 0;
+                for (int i = from; i < to; i++) {
+                    sum += array[i];
+                }
+
+                return sum;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new IntSumTask(array, from, mid, threshold);
+            left.fork();
+            long right = new IntSumTask(array, mid, to, threshold).compute();
+
+            return left.join() + right;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntCountTask extends RecursiveTask<Long> {
+        private final int[] array;
+        private final int from, to, threshold;
+        private final IntPredicate predicate;
+
+        IntCountTask(int[] array, int from, int to, IntPredicate predicate, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                long count = 0;
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(array[i])) {
+                        count++;
+                    }
+                }
+
+                return count;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new IntCountTask(array, from, mid, predicate, threshold);
+            left.fork();
+            long right = new IntCountTask(array, mid, to, predicate, threshold).compute();
+
+            return left.join() + right;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntAnyMatchTask extends RecursiveAction {
+        private final int[] array;
+        private final int from, to, threshold;
+        private final IntPredicate predicate;
+        private final AtomicBoolean found;
+
+        IntAnyMatchTask(int[] array, int from, int to, IntPredicate predicate, int threshold, AtomicBoolean found) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    if ((i - from) % CANCEL_CHECK_INTERVAL == 0 && found.get()) {
+                        return;
+                    }
+
+                    if (predicate.test(array[i])) {
+                        found.set(true);
+                        return;
+                    }
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new IntAnyMatchTask(array, from, mid, predicate, threshold, found);
+            left.fork();
+            new IntAnyMatchTask(array, mid, to, predicate, threshold, found).compute();
+
+            if (found.get() && left.tryUnfork()) {
+                return;
+            }
+
+            left.join();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntFilterTask extends RecursiveAction {
+        private final int[] array;
+        private final int from, to, threshold;
+        private final IntPredicate predicate;
+        private IntFilterTask left, right;
+        private int[] matches;
+        private int size;
+
+        IntFilterTask(int[] array, int from, int to, IntPredicate predicate, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                matches = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(array[i])) {
+                        matches[size++] = array[i];
+                    }
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            left = new IntFilterTask(array, from, mid, predicate, threshold);
+            right = new IntFilterTask(array, mid, to, predicate, threshold);
+            left.fork();
+            right.compute();
+            left.join();
+            size = left.size + right.size;
+        }
+
+        int[] collect() {
+            var result = new int[size];
+            copyInto(result, 0);
+            return result;
+        }
+
+        private int copyInto(int[] result, int offset) {
+            if (matches != null) {
+                System.arraycopy(matches, 0, result, offset, size);
+                return offset + size;
+            }
+
+            return right.copyInto(result, left.copyInto(result, offset));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntMapTask extends RecursiveAction {
+        private final int[] array;
+        private final int from, to, threshold;
+        private final IntUnaryOperator mapper;
+        private final int[] result;
+
+        IntMapTask(int[] array, int from, int to, IntUnaryOperator mapper, int[] result, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+            this.result = result;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    result[i] = mapper.applyAsInt(array[i]);
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new IntMapTask(array, from, mid, mapper, result, threshold),
+                    new IntMapTask(array, mid, to, mapper, result, threshold));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongSumTask extends RecursiveTask<Long> {
+        private final long[] array;
+        private final int from, to, threshold;
+
+        LongSumTask(long[] array, int from, int to, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                long sum = 0;
+                for (int i = from; i < to; i++) {
+                    sum += array[i];
+                }
+
+                return sum;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new LongSumTask(array, from, mid, threshold);
+            left.fork();
+            long right = new LongSumTask(array, mid, to, threshold).compute();
+
+            return left.join() + right;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongCountTask extends RecursiveTask<Long> {
+        private final long[] array;
+        private final int from, to, threshold;
+        private final LongPredicate predicate;
+
+        LongCountTask(long[] array, int from, int to, LongPredicate predicate, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                long count = 0;
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(array[i])) {
+                        count++;
+                    }
+                }
+
+                return count;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new LongCountTask(array, from, mid, predicate, threshold);
+            left.fork();
+            long right = new LongCountTask(array, mid, to, predicate, threshold).compute();
+
+            return left.join() + right;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongAnyMatchTask extends RecursiveAction {
+        private final long[] array;
+        private final int from, to, threshold;
+        private final LongPredicate predicate;
+        private final AtomicBoolean found;
+
+        LongAnyMatchTask(long[] array, int from, int to, LongPredicate predicate, int threshold, AtomicBoolean found) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    if ((i - from) % CANCEL_CHECK_INTERVAL == 0 && found.get()) {
+                        return;
+                    }
+
+                    if (predicate.test(array[i])) {
+                        found.set(true);
+                        return;
+                    }
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            var left = new LongAnyMatchTask(array, from, mid, predicate, threshold, found);
+            left.fork();
+            new LongAnyMatchTask(array, mid, to, predicate, threshold, found).compute();
+
+            if (found.get() && left.tryUnfork()) {
+                return;
+            }
+
+            left.join();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongFilterTask extends RecursiveAction {
+        private final long[] array;
+        private final int from, to, threshold;
+        private final LongPredicate predicate;
+        private LongFilterTask left, right;
+        private long[] matches;
+        private int size;
+
+        LongFilterTask(long[] array, int from, int to, LongPredicate predicate, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                matches = new long[to - from];
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(array[i])) {
+                        matches[size++] = array[i];
+                    }
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            left = new LongFilterTask(array, from, mid, predicate, threshold);
+            right = new LongFilterTask(array, mid, to, predicate, threshold);
+            left.fork();
+            right.compute();
+            left.join();
+            size = left.size + right.size;
+        }
+
+        long[] collect() {
+            var result = new long[size];
+            copyInto(result, 0);
+            return result;
+        }
+
+        private int copyInto(long[] result, int offset) {
+            if (matches != null) {
+                System.arraycopy(matches, 0, result, offset, size);
+                return offset + size;
+            }
+
+            return right.copyInto(result, left.copyInto(result, offset));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class LongMapTask extends RecursiveAction {
+        private final long[] array;
+        private final int from, to, threshold;
+        private final LongUnaryOperator mapper;
+        private final long[] result;
+
+        LongMapTask(long[] array, int from, int to, LongUnaryOperator mapper, long[] result, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+            this.result = result;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    result[i] = mapper.applyAsLong(array[i]);
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new LongMapTask(array, from, mid, mapper, result, threshold),
+                    new LongMapTask(array, mid, to, mapper, result, threshold));
+        }
+    }
+}
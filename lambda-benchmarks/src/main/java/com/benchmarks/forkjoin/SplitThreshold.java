@@ -0,0 +1,10 @@
+package com.benchmarks.forkjoin;
+
+import org.openjdk.jmh.annotations.*;
+
+// Sequential threshold for the forkJoin* benchmarks: ranges at or below it are scanned in a loop.
+@State(Scope.Benchmark)
+public class SplitThreshold {
+    @Param({"1024","8192","65536"})
+    public int threshold;
+}
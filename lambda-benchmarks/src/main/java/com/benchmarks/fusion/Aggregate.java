@@ -0,0 +1,132 @@
+package com.benchmarks.fusion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Specification of one result computed by a {@link FusedPipeline}. Aggregates are stateless and
+ * can be reused; each run gets fresh sinks from {@link #newSink()}.
+ */
+@FunctionalInterface
+public interface Aggregate<T, R> {
+    Sink<T, R> newSink();
+
+    static <T> Aggregate<T, Long> count(Predicate<? super T> predicate) {
+        return () -> new Sink<T, Long>() {
+            long count;
+
+            @Override
+            public boolean accept(List<? extends T> items, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(items.get(i))) {
+                        count++;
+                    }
+                }
+
+                return true;
+            }
+
+            @Override
+            public Long result() {
+                return count;
+            }
+        };
+    }
+
+    static <T> Aggregate<T, Boolean> anyMatch(Predicate<? super T> predicate) {
+        return () -> new Sink<T, Boolean>() {
+            boolean found;
+
+            @Override
+            public boolean accept(List<? extends T> items, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(items.get(i))) {
+                        found = true;
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+
+            @Override
+            public Boolean result() {
+                return found;
+            }
+        };
+    }
+
+    static <T> Aggregate<T, ArrayList<T>> filter(Predicate<? super T> predicate) {
+        return () -> new Sink<T, ArrayList<T>>() {
+            final ArrayList<T> result = new ArrayList<T>();
+
+            @Override
+            public boolean accept(List<? extends T> items, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    var item = items.get(i);
+                    if (predicate.test(item)) {
+                        result.add(item);
+                    }
+                }
+
+                return true;
+            }
+
+            @Override
+            public ArrayList<T> result() {
+                return result;
+            }
+        };
+    }
+
+    static <T, V> Aggregate<T, ArrayList<V>> map(Function<? super T, ? extends V> mapper) {
+        return () -> new Sink<T, ArrayList<V>>() {
+            final ArrayList<V> result = new ArrayList<V>();
+
+            @Override
+            public boolean accept(List<? extends T> items, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    result.add(mapper.apply(items.get(i)));
+                }
+
+                return true;
+            }
+
+            @Override
+            public ArrayList<V> result() {
+                return result;
+            }
+        };
+    }
+
+    // Mutable reduction into a container, like Stream.collect(supplier, accumulator, combiner).
+    static <T, A> Aggregate<T, A> collect(Supplier<A> supplier, BiConsumer<A, ? super T> accumulator) {
+        return collect(supplier, accumulator, Function.identity());
+    }
+
+    // As above, with the container turned into the result once the traversal is done, like Collector.of.
+    static <T, A, R> Aggregate<T, R> collect(Supplier<A> supplier, BiConsumer<A, ? super T> accumulator,
+            Function<A, R> finisher) {
+        return () -> new Sink<T, R>() {
+            final A container = supplier.get();
+
+            @Override
+            public boolean accept(List<? extends T> items, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accumulator.accept(container, items.get(i));
+                }
+
+                return true;
+            }
+
+            @Override
+            public R result() {
+                return finisher.apply(container);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.benchmarks.fusion;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.ArrayList.ArrayListClass;
+import com.benchmarks.Student;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// ArrayListClass ops computed together: *All runs Reduce, Iterate, Contains, Filter and Map, *Scan
+// only the cheap Iterate, Contains and Filter. The separate variants call the ArrayListClass
+// methods back to back on the same data; fused* does one FusedPipeline traversal. The fused sinks
+// produce the same outputs as lambdaReduce and lambdaMap: the joined String, and a HashMap
+// collected unsized and then copied, as Collectors.toMap plus the HashMap copy does.
+public class FusedArrayListClass {
+
+    @State(Scope.Thread)
+    public static class Bench extends ArrayListClass.Bench {
+        public ArrayListClass separate = new ArrayListClass();
+        public FusedPipeline<Student> all;
+        public FusedPipeline<Student> scan;
+
+        @Setup(Level.Trial)
+        public void setupPipelines() {
+            all = new FusedPipeline<Student>();
+            all.add(Aggregate.collect(StringBuilder::new, (sb, s) -> sb.append(String.format("%s, %s, %s",
+                    s.lastName, s.firstName, (s.average > 60) ? Integer.toString(s.average) : "Failed")),
+                    StringBuilder::toString));
+            addScan(all);
+            all.add(Aggregate.collect(() -> new HashMap<Long, String>(),
+                    (m, s) -> m.put(s.ID, String.format("%s, %s", s.lastName, s.firstName)),
+                    m -> new HashMap<Long, String>(m)));
+
+            scan = new FusedPipeline<Student>();
+            addScan(scan);
+        }
+
+        private void addScan(FusedPipeline<Student> pipeline) {
+            pipeline.add(Aggregate.count(s -> s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE));
+            pipeline.add(Aggregate.anyMatch(
+                    s -> s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")));
+            pipeline.add(Aggregate.filter(
+                    s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > target));
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void lambdaAll(Bench b, Blackhole bh) {
+        bh.consume(b.separate.lambdaReduce(b));
+        bh.consume(b.separate.lambdaIterate(b));
+        bh.consume(b.separate.lambdaContains(b));
+        bh.consume(b.separate.lambdaFilter(b));
+        bh.consume(b.separate.lambdaMap(b));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void loopAll(Bench b, Blackhole bh) {
+        bh.consume(b.separate.loopReduce(b));
+        bh.consume(b.separate.loopIterate(b));
+        bh.consume(b.separate.loopContains(b));
+        bh.consume(b.separate.loopFilter(b));
+        bh.consume(b.separate.loopMap(b));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public FusedPipeline.Results fusedAll(Bench b) {
+        return b.all.run(b.students);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void lambdaScan(Bench b, Blackhole bh) {
+        bh.consume(b.separate.lambdaIterate(b));
+        bh.consume(b.separate.lambdaContains(b));
+        bh.consume(b.separate.lambdaFilter(b));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void loopScan(Bench b, Blackhole bh) {
+        bh.consume(b.separate.loopIterate(b));
+        bh.consume(b.separate.loopContains(b));
+        bh.consume(b.separate.loopFilter(b));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public FusedPipeline.Results fusedScan(Bench b) {
+        return b.scan.run(b.students);
+    }
+}
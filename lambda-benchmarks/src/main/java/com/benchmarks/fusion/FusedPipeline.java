@@ -0,0 +1,103 @@
+package com.benchmarks.fusion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Evaluates several aggregates in a single traversal, like Collectors.teeing generalized to N
+ * sinks. Elements are handed to the sinks in blocks of {@link #BLOCK_SIZE}: every sink that still
+ * wants input scans the block while it is cache-resident, then the traversal moves on. It stops
+ * early only once all sinks are done, so a short-circuiting anyMatch keeps scanning while any
+ * other aggregate is still active.
+ *
+ * <pre>
+ * var pipeline = new FusedPipeline&lt;Student&gt;();
+ * var passed = pipeline.add(Aggregate.count(s -&gt; s.average &gt;= 60));
+ * var names = pipeline.add(Aggregate.map(s -&gt; s.lastName));
+ * var results = pipeline.run(students);
+ * long count = results.get(passed);
+ * </pre>
+ */
+public class FusedPipeline<T> {
+    public static final int BLOCK_SIZE = 256;
+
+    private final List<Aggregate<T, ?>> aggregates = new ArrayList<Aggregate<T, ?>>();
+
+    // Typed handle to one aggregate's result.
+    public static final class Slot<R> {
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+    }
+
+    public static final class Results {
+        private final Object[] values;
+
+        private Results(Object[] values) {
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> R get(Slot<R> slot) {
+            return (R) values[slot.index];
+        }
+    }
+
+    public <R> Slot<R> add(Aggregate<T, R> aggregate) {
+        aggregates.add(aggregate);
+        return new Slot<R>(aggregates.size() - 1);
+    }
+
+    public Results run(Collection<? extends T> data) {
+        int count = aggregates.size();
+        @SuppressWarnings("unchecked")
+        var sinks = (Sink<T, ?>[]) new Sink<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            sinks[i] = aggregates.get(i).newSink();
+        }
+
+        // active[0..live) holds the sinks still accepting input, in a compact prefix.
+        var active = sinks.clone();
+        int live = count;
+
+        if (data instanceof RandomAccess && data instanceof List) {
+            var list = (List<? extends T>) data;
+            for (int from = 0, size = list.size(); from < size && live > 0; from += BLOCK_SIZE) {
+                live = offer(active, live, list, from, Math.min(size, from + BLOCK_SIZE));
+            }
+        } else {
+            var block = new ArrayList<T>(BLOCK_SIZE);
+            var iter = data.iterator();
+
+            while (iter.hasNext() && live > 0) {
+                block.clear();
+                while (iter.hasNext() && block.size() < BLOCK_SIZE) {
+                    block.add(iter.next());
+                }
+
+                live = offer(active, live, block, 0, block.size());
+            }
+        }
+
+        var values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = sinks[i].result();
+        }
+
+        return new Results(values);
+    }
+
+    private static <T> int offer(Sink<T, ?>[] active, int live, List<? extends T> items, int from, int to) {
+        for (int i = 0; i < live; i++) {
+            if (!active[i].accept(items, from, to)) {
+                active[i--] = active[--live];
+            }
+        }
+
+        return live;
+    }
+}
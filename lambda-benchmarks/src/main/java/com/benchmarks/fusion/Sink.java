@@ -0,0 +1,14 @@
+package com.benchmarks.fusion;
+
+import java.util.List;
+
+/**
+ * Per-run state of one {@link Aggregate}. The pipeline feeds elements in blocks so each sink runs
+ * its own loop, keeping the per-element predicate and mapper calls monomorphic. {@link #accept}
+ * returns false once the sink needs no more elements, after which the pipeline stops feeding it.
+ */
+public interface Sink<T, R> {
+    boolean accept(List<? extends T> items, int from, int to);
+
+    R result();
+}
@@ -0,0 +1,270 @@
+package com.benchmarks.key;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.HashMap.HashMapClass;
+import com.benchmarks.Student;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+// HashMapClass students keyed by the original "%d - %c%c%d" String, by StudentKey and by a packed long.
+// The *Populate benchmarks report the retained bytes per entry of the map they build as Footprint
+// counters; gc.alloc.rate.norm / N would also count String.format's Formatter, varargs and boxing
+// garbage. HashMap<Long, Student> boxes every packed key, on insert and on every lookup.
+public class CompositeKeyHashMapClass {
+
+    @State(Scope.Thread)
+    public static class Bench extends HashMapClass.Bench {
+        public HashMap<StudentKey, Student> byKey;
+        public HashMap<Long, Student> byPacked;
+
+        public int[] indices;
+        public Student[] values;
+
+        public String[] stringLookups;
+        public StudentKey[] keyLookups;
+        public long[] packedLookups;
+        public long stringKeyBytes;
+
+        @Setup(Level.Trial)
+        public void setupKeys() {
+            int size = students.size();
+            var keys = new ArrayList<StudentKey>(size);
+
+            byKey = new HashMap<StudentKey, Student>(size);
+            byPacked = new HashMap<Long, Student>(size);
+            indices = new int[size];
+            values = new Student[size];
+
+            int i = 0;
+            for (var e : students.entrySet()) {
+                var key = StudentKey.parse(e.getKey());
+
+                byKey.put(key, e.getValue());
+                byPacked.put(key.pack(), e.getValue());
+                indices[i] = key.index;
+                values[i] = e.getValue();
+                keys.add(key);
+                i++;
+            }
+
+            // Lookups go through fresh key instances in a shuffled order, so equals() really compares
+            // and the probe sequence does not follow the table layout.
+            Collections.shuffle(keys, new Random(size));
+
+            stringLookups = new String[size];
+            keyLookups = new StudentKey[size];
+            packedLookups = new long[size];
+
+            for (int j = 0; j < size; j++) {
+                var k = keys.get(j);
+                stringLookups[j] = k.toString();
+                stringKeyBytes += Footprint.stringBytes(stringLookups[j]);
+                keyLookups[j] = new StudentKey(k.index, k.first, k.last, k.id);
+                packedLookups[j] = k.pack();
+            }
+        }
+    }
+
+    // Retained bytes per entry of the maps the *Populate benchmarks return, not counting the shared
+    // Student values. JMH sums these counters over iterations, forks and threads, so each thread fills
+    // them in during its first measurement iteration only and reports its share of the value.
+    // Estimates for a 64-bit JVM with compressed oops, headers included: the HashMap, its table with 4
+    // bytes per slot and a 32-byte HashMap.Node per entry, plus per key a 24-byte String with its
+    // Latin-1 byte[], a 32-byte StudentKey or a 16-byte Long.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        private boolean record;
+        private boolean recorded;
+        private int shares;
+        private long stringBytes;
+        private long keyBytes;
+        private long packedBytes;
+        private int n;
+
+        @Setup(Level.Iteration)
+        public void setupIteration(BenchmarkParams benchmark, IterationParams params) {
+            shares = Math.max(benchmark.getForks(), 1) * benchmark.getThreads();
+            record = params.getType() == IterationType.MEASUREMENT && !recorded;
+            recorded |= record;
+            stringBytes = 0;
+            keyBytes = 0;
+            packedBytes = 0;
+            n = 0;
+        }
+
+        public double stringBytesPerEntry() {
+            return n == 0 ? 0 : (double) stringBytes / n / shares;
+        }
+
+        public double keyBytesPerEntry() {
+            return n == 0 ? 0 : (double) keyBytes / n / shares;
+        }
+
+        public double packedBytesPerEntry() {
+            return n == 0 ? 0 : (double) packedBytes / n / shares;
+        }
+
+        static long hashMapBytes(int size, int initialCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(initialCapacity - 1, 1)) << 1;
+            while (size > capacity * 0.75) {
+                capacity <<= 1;
+            }
+
+            return 48 + 16 + 4L * capacity + 32L * size;
+        }
+
+        static long stringBytes(String s) {
+            return 24 + ((16 + s.length() + 7) & ~7);
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> stringPopulate(Bench b, Footprint f) {
+        int size = b.values.length;
+        var result = new HashMap<String, Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.values[i];
+            var key = String.format("%d - %c%c%d", b.indices[i], s.firstName.charAt(0), s.lastName.charAt(0), s.ID);
+
+            result.put(key, s);
+        }
+
+        if (f.record) {
+            f.stringBytes = Footprint.hashMapBytes(result.size(), size) + b.stringKeyBytes;
+            f.n = size;
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<StudentKey, Student> keyPopulate(Bench b, Footprint f) {
+        int size = b.values.length;
+        var result = new HashMap<StudentKey, Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.values[i];
+            result.put(new StudentKey(b.indices[i], s.firstName.charAt(0), s.lastName.charAt(0), s.ID), s);
+        }
+
+        if (f.record) {
+            f.keyBytes = Footprint.hashMapBytes(result.size(), size) + 32L * result.size();
+            f.n = size;
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, Student> packedPopulate(Bench b, Footprint f) {
+        int size = b.values.length;
+        var result = new HashMap<Long, Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.values[i];
+            result.put(StudentKey.pack(b.indices[i], s.firstName.charAt(0), s.lastName.charAt(0)), s);
+        }
+
+        if (f.record) {
+            f.packedBytes = Footprint.hashMapBytes(result.size(), size) + 16L * result.size();
+            f.n = size;
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int stringLookup(Bench b) {
+        int found = 0;
+
+        for (var key : b.stringLookups) {
+            if (b.students.get(key) != null) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int keyLookup(Bench b) {
+        int found = 0;
+
+        for (var key : b.keyLookups) {
+            if (b.byKey.get(key) != null) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int packedLookup(Bench b) {
+        int found = 0;
+
+        for (var key : b.packedLookups) {
+            if (b.byPacked.get(key) != null) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int stringIterate(Bench b) {
+        int count = 0;
+
+        for (var e : b.students.entrySet()) {
+            var key = e.getKey();
+            int initials = key.indexOf(" - ") + 3;
+
+            if (key.charAt(initials) == key.charAt(initials + 1) && e.getValue().ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int keyIterate(Bench b) {
+        int count = 0;
+
+        for (var e : b.byKey.entrySet()) {
+            var key = e.getKey();
+
+            if (key.first == key.last && e.getValue().ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int packedIterate(Bench b) {
+        int count = 0;
+
+        for (var e : b.byPacked.entrySet()) {
+            long key = e.getKey();
+
+            if (StudentKey.first(key) == StudentKey.last(key) && e.getValue().ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,89 @@
+package com.benchmarks.key;
+
+/**
+ * Compact form of the HashMapClass key {@code "%d - %c%c%d"}: entry index, first-name and
+ * last-name initials and student ID. The hash is computed once in the constructor, so lookups
+ * never walk characters, and {@link #toString()} gives back the original String key.
+ *
+ * <p>The static {@code pack} methods squeeze the same key into a single {@code long}
+ * (index in the high 32 bits, then the two initials). The ID is left out of the packed form:
+ * HashMapClass derives it from the index ({@code ID = i * N}), so within one map it adds nothing.
+ */
+public final class StudentKey {
+    public final int index;
+    public final char first;
+    public final char last;
+    public final long id;
+    private final int hash;
+
+    public StudentKey(int index, char first, char last, long id) {
+        this.index = index;
+        this.first = first;
+        this.last = last;
+        this.id = id;
+
+        int h = index;
+        h = 31 * h + first;
+        h = 31 * h + last;
+        h = 31 * h + Long.hashCode(id);
+        this.hash = h;
+    }
+
+    /** Parses a key produced by {@code String.format("%d - %c%c%d", ...)}. */
+    public static StudentKey parse(String key) {
+        int dash = key.indexOf(" - ");
+        if (dash < 1 || key.length() < dash + 6) {
+            throw new IllegalArgumentException("Not a student key: " + key);
+        }
+
+        int index = Integer.parseInt(key, 0, dash, 10);
+        char first = key.charAt(dash + 3);
+        char last = key.charAt(dash + 4);
+        long id = Long.parseLong(key, dash + 5, key.length(), 10);
+
+        return new StudentKey(index, first, last, id);
+    }
+
+    public static long pack(int index, char first, char last) {
+        return ((long) index << 32) | ((long) first << 16) | last;
+    }
+
+    public long pack() {
+        return pack(index, first, last);
+    }
+
+    public static int index(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    public static char first(long packed) {
+        return (char) (packed >>> 16);
+    }
+
+    public static char last(long packed) {
+        return (char) packed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StudentKey)) {
+            return false;
+        }
+
+        var k = (StudentKey) o;
+        return hash == k.hash && index == k.index && id == k.id && first == k.first && last == k.last;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(24).append(index).append(" - ").append(first).append(last).append(id).toString();
+    }
+}
@@ -0,0 +1,202 @@
+package com.benchmarks.offheap;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// Run with -prof gc: the iterate, contains, filter and copy benchmarks should report a
+// gc.alloc.rate.norm of ~0 B/op, since results are written into a reused off-heap store.
+// With -f 0 the host JVM needs --add-modules jdk.incubator.foreign as well.
+@Fork(jvmArgsAppend = {"--add-modules", "jdk.incubator.foreign"})
+public class OffHeapClass {
+
+    @State(Scope.Thread)
+    public static class Bench {
+
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public StudentStore students;
+        public StudentStore result;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupStudents() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = StudentStore.of(Arrays.asList(Datasets.students(seed, 1, N, -50, 0)));
+            result = new StudentStore(N, students.names());
+        }
+
+        @TearDown(Level.Trial)
+        public void closeStores() {
+            students.close();
+            result.close();
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String lambdaReduce(Bench b) {
+        var s = b.students;
+        return IntStream.range(0, s.size())
+                .mapToObj(i -> String.format("%s, %s, %s", s.lastName(i), s.firstName(i),
+                        (s.average(i) > 60) ? Integer.toString(s.average(i)) : "Failed"))
+                .collect(StringBuilder::new, (sb, str) -> sb.append(str), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var c = b.students.cursor();
+        var sb = new StringBuilder();
+
+        while (c.next()) {
+            var passed = c.average() > 60 ? Integer.toString(c.average()) : "Failed";
+            sb.append(String.format("%s, %s, %s", c.lastName(), c.firstName(), passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentStore lambdaPopulate(Bench b) {
+        var rnd = new Random();
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+        var result = b.result;
+
+        result.clear();
+        IntStream.rangeClosed(1, b.N).forEach(i -> result.add(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(),
+                b.firstNames.get(rnd.nextInt(maxF)), b.lastNames.get(rnd.nextInt(maxL))));
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentStore loopPopulate(Bench b) {
+        int maxF = b.firstNames.size();
+        int maxL = b.lastNames.size();
+
+        var rnd = new Random();
+        var result = b.result;
+        result.clear();
+
+        for (int i = 0; i < b.N; i++) {
+            var firstName = b.firstNames.get(rnd.nextInt(maxF));
+            var lastName = b.lastNames.get(rnd.nextInt(maxL));
+            result.add(rnd.nextInt(100 - 50) - 50, i + rnd.nextLong(), firstName, lastName);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        return b.students.count(c -> c.firstName().length() > 0 && c.average() >= 50 && c.id() < Long.MAX_VALUE);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        var c = b.students.cursor();
+        int count = 0;
+
+        while (c.next()) {
+            if (c.firstName().length() > 0 && c.average() >= 50 && c.id() < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.students.anyMatch(c -> c.average() >= 70 && c.average() <= 85
+                && c.firstName().contains(" ") && c.lastName().contains("es"));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        var c = b.students.cursor();
+
+        while (c.next()) {
+            if (c.average() >= 70 && c.average() <= 85 && c.firstName().contains(" ") && c.lastName().contains("es")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentStore lambdaFilter(Bench b) {
+        int target = b.target;
+        b.students.filterInto(c -> c.average() > 50 && c.average() < 70 && c.firstName().contains("i")
+                && c.id() > target, b.result);
+
+        return b.result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentStore loopFilter(Bench b) {
+        var s = b.students;
+        var result = b.result;
+        var c = s.cursor();
+        result.clear();
+
+        while (c.next()) {
+            if (c.average() > 50 && c.average() < 70 && c.firstName().contains("i") && c.id() > b.target) {
+                result.addRow(s, c.row());
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentStore bulkCopy(Bench b) {
+        b.students.copyInto(b.result);
+        return b.result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StudentStore loopCopy(Bench b) {
+        var s = b.students;
+        var result = b.result;
+        result.clear();
+
+        for (int i = 0; i < s.size(); i++) {
+            result.addRow(s, i);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> lambdaMap(Bench b) {
+        var s = b.students;
+        return new HashMap<Long, String>(IntStream.range(0, s.size()).boxed()
+                .collect(Collectors.toMap(i -> s.id(i), i -> String.format("%s, %s", s.lastName(i), s.firstName(i)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        var c = b.students.cursor();
+        var result = new HashMap<Long, String>(b.students.size());
+
+        while (c.next()) {
+            result.put(c.id(), String.format("%s, %s", c.lastName(), c.firstName()));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.benchmarks.offheap;
+
+import jdk.incubator.foreign.MemoryAccess;
+
+/**
+ * Flyweight view over one record of a {@link StudentStore}. Advancing the cursor only
+ * moves an offset, so iterating a store never creates Student objects.
+ */
+public class StudentCursor {
+    private final StudentStore store;
+    private int row = -1;
+    private long offset = -StudentStore.RECORD_SIZE;
+
+    StudentCursor(StudentStore store) {
+        this.store = store;
+    }
+
+    public boolean next() {
+        if (row + 1 >= store.size()) {
+            return false;
+        }
+
+        row++;
+        offset += StudentStore.RECORD_SIZE;
+        return true;
+    }
+
+    public void reset() {
+        row = -1;
+        offset = -StudentStore.RECORD_SIZE;
+    }
+
+    public int row() {
+        return row;
+    }
+
+    public int average() {
+        return MemoryAccess.getIntAtOffset(store.segment(), offset + StudentStore.AVERAGE_OFFSET);
+    }
+
+    public long id() {
+        return MemoryAccess.getLongAtOffset(store.segment(), offset + StudentStore.ID_OFFSET);
+    }
+
+    public int firstNameId() {
+        return MemoryAccess.getIntAtOffset(store.segment(), offset + StudentStore.FIRST_NAME_OFFSET);
+    }
+
+    public int lastNameId() {
+        return MemoryAccess.getIntAtOffset(store.segment(), offset + StudentStore.LAST_NAME_OFFSET);
+    }
+
+    public String firstName() {
+        return store.names().name(firstNameId());
+    }
+
+    public String lastName() {
+        return store.names().name(lastNameId());
+    }
+}
@@ -0,0 +1,214 @@
+package com.benchmarks.offheap;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import com.benchmarks.Student;
+import com.benchmarks.columnar.NameDictionary;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+/**
+ * Off-heap Student storage: fixed-width 24 byte records in a native {@link MemorySegment},
+ * with names kept as ids into a shared {@link NameDictionary}. Nothing but the store itself
+ * lives on the Java heap, so scans over it neither allocate nor add GC work.
+ *
+ * <pre>
+ *   0  long ID
+ *   8  int  average
+ *  12  int  firstName id
+ *  16  int  lastName id
+ *  20  (padding)
+ * </pre>
+ *
+ * The native memory is released by {@link #close()}.
+ */
+public class StudentStore implements AutoCloseable {
+    static final long RECORD_SIZE = 24;
+    static final long ID_OFFSET = 0;
+    static final long AVERAGE_OFFSET = 8;
+    static final long FIRST_NAME_OFFSET = 12;
+    static final long LAST_NAME_OFFSET = 16;
+
+    private final NameDictionary names;
+    private final StudentCursor cursor;
+    private ResourceScope scope;
+    private MemorySegment segment;
+    private int capacity;
+    private int size;
+
+    public StudentStore(int capacity) {
+        this(capacity, new NameDictionary());
+    }
+
+    public StudentStore(int capacity, NameDictionary names) {
+        this.names = names;
+        this.cursor = new StudentCursor(this);
+        allocate(Math.max(16, capacity));
+    }
+
+    public static StudentStore of(Collection<? extends Student> students) {
+        var store = new StudentStore(students.size());
+        for (var s : students) {
+            store.add(s.average, s.ID, s.firstName, s.lastName);
+        }
+
+        return store;
+    }
+
+    public void add(int average, long id, String firstName, String lastName) {
+        addRow(average, id, names.intern(firstName), names.intern(lastName));
+    }
+
+    // Appends a row whose name ids already belong to this store's dictionary.
+    public void addRow(int average, long id, int firstNameId, int lastNameId) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+
+        long offset = size * RECORD_SIZE;
+        MemoryAccess.setLongAtOffset(segment, offset + ID_OFFSET, id);
+        MemoryAccess.setIntAtOffset(segment, offset + AVERAGE_OFFSET, average);
+        MemoryAccess.setIntAtOffset(segment, offset + FIRST_NAME_OFFSET, firstNameId);
+        MemoryAccess.setIntAtOffset(segment, offset + LAST_NAME_OFFSET, lastNameId);
+        size++;
+    }
+
+    public void addRow(StudentStore source, int row) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+
+        segment.asSlice(size * RECORD_SIZE, RECORD_SIZE)
+                .copyFrom(source.segment.asSlice(row * RECORD_SIZE, RECORD_SIZE));
+        size++;
+    }
+
+    // Replaces the contents of target with this store's rows in a single bulk copy.
+    public void copyInto(StudentStore target) {
+        target.clear();
+        if (target.capacity < size) {
+            target.grow(size);
+        }
+
+        long bytes = size * RECORD_SIZE;
+        target.segment.asSlice(0, bytes).copyFrom(segment.asSlice(0, bytes));
+        target.size = size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public NameDictionary names() {
+        return names;
+    }
+
+    public int average(int row) {
+        return MemoryAccess.getIntAtOffset(segment, row * RECORD_SIZE + AVERAGE_OFFSET);
+    }
+
+    public long id(int row) {
+        return MemoryAccess.getLongAtOffset(segment, row * RECORD_SIZE + ID_OFFSET);
+    }
+
+    public int firstNameId(int row) {
+        return MemoryAccess.getIntAtOffset(segment, row * RECORD_SIZE + FIRST_NAME_OFFSET);
+    }
+
+    public int lastNameId(int row) {
+        return MemoryAccess.getIntAtOffset(segment, row * RECORD_SIZE + LAST_NAME_OFFSET);
+    }
+
+    public String firstName(int row) {
+        return names.name(firstNameId(row));
+    }
+
+    public String lastName(int row) {
+        return names.name(lastNameId(row));
+    }
+
+    // Returns the store's flyweight cursor positioned before the first row. The same
+    // cursor is handed out on every call, so only one scan may use it at a time.
+    public StudentCursor cursor() {
+        cursor.reset();
+        return cursor;
+    }
+
+    public int count(Predicate<StudentCursor> predicate) {
+        var c = cursor();
+        int count = 0;
+
+        while (c.next()) {
+            if (predicate.test(c)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public boolean anyMatch(Predicate<StudentCursor> predicate) {
+        var c = cursor();
+        while (c.next()) {
+            if (predicate.test(c)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Replaces the contents of target with the rows matching predicate.
+    public void filterInto(Predicate<StudentCursor> predicate, StudentStore target) {
+        target.clear();
+        var c = cursor();
+
+        while (c.next()) {
+            if (predicate.test(c)) {
+                target.addRow(this, c.row());
+            }
+        }
+    }
+
+    public Student toStudent(int row) {
+        var s = new Student();
+        s.average = average(row);
+        s.ID = id(row);
+        s.firstName = firstName(row);
+        s.lastName = lastName(row);
+
+        return s;
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+    }
+
+    MemorySegment segment() {
+        return segment;
+    }
+
+    private void allocate(int capacity) {
+        this.scope = ResourceScope.newSharedScope();
+        this.segment = MemorySegment.allocateNative(capacity * RECORD_SIZE, 8, scope);
+        this.capacity = capacity;
+    }
+
+    private void grow(int minCapacity) {
+        var oldScope = scope;
+        var oldSegment = segment;
+        allocate(Math.max(minCapacity, capacity + (capacity >> 1)));
+
+        long bytes = size * RECORD_SIZE;
+        segment.asSlice(0, bytes).copyFrom(oldSegment.asSlice(0, bytes));
+        oldScope.close();
+    }
+}
@@ -0,0 +1,166 @@
+package com.benchmarks.partition;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ParallelPool;
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListClass filter/map/reduce split into `partitions` pieces, one task per piece, against
+// parallel streams and the plain loops. Partial results are merged in encounter order.
+public class PartitionArrayListClass {
+
+    @State(Scope.Thread)
+    public static class Bench {
+
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public ArrayList<Student> students;
+
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        @Setup(Level.Trial)
+        public void setupStudents() {
+            target = Datasets.random(seed, 0).nextInt(-N, N);
+            students = new ArrayList<Student>(Arrays.asList(Datasets.students(seed, 1, N, -50, 0)));
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var sb = new StringBuilder();
+
+        for (int i = 0; i < b.students.size(); i++) {
+            Student s = b.students.get(i);
+            var passed = s.average > 60 ? Integer.toString(s.average) : "Failed";
+            sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+        }
+
+        return sb.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .map(s -> String.format("%s, %s, %s", s.lastName, s.firstName,
+                        (s.average > 60) ? Integer.toString(s.average) : "Failed"))
+                .collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString()))
+                .toString());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String partitionReduce(Bench b, PartitionExecutor e) {
+        var parts = Partitions.fanOut(b.students, e.partitions, e.executor, part -> {
+            var sb = new StringBuilder();
+            part.forEachRemaining(s -> {
+                var passed = s.average > 60 ? Integer.toString(s.average) : "Failed";
+                sb.append(String.format("%s, %s, %s", s.lastName, s.firstName, passed));
+            });
+
+            return sb;
+        });
+
+        var result = new StringBuilder();
+        for (var part : parts) {
+            result.append(part);
+        }
+
+        return result.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopFilter(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.parallelStream()
+                .filter(s -> s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target)
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> partitionFilter(Bench b, PartitionExecutor e) {
+        var parts = Partitions.fanOut(b.students, e.partitions, e.executor, part -> {
+            var kept = new ArrayList<Student>();
+            part.forEachRemaining(s -> {
+                if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                    kept.add(s);
+                }
+            });
+
+            return kept;
+        });
+
+        int size = 0;
+        for (var part : parts) {
+            size += part.size();
+        }
+
+        var result = new ArrayList<Student>(size);
+        for (var part : parts) {
+            result.addAll(part);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        int size = b.students.size();
+        var result = new HashMap<Long, String>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            var value = String.format("%s, %s", s.lastName, s.firstName);
+
+            result.put(s.ID, value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> parallelMap(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<Long, String>(b.students.parallelStream()
+                .collect(Collectors.toMap(s -> s.ID, s -> String.format("%s, %s", s.lastName, s.firstName)))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> partitionMap(Bench b, PartitionExecutor e) {
+        var parts = Partitions.fanOut(b.students, e.partitions, e.executor, part -> {
+            var mapped = new HashMap<Long, String>();
+            part.forEachRemaining(s -> mapped.put(s.ID, String.format("%s, %s", s.lastName, s.firstName)));
+
+            return mapped;
+        });
+
+        var result = new HashMap<Long, String>(b.students.size());
+        for (var part : parts) {
+            result.putAll(part);
+        }
+
+        return result;
+    }
+}
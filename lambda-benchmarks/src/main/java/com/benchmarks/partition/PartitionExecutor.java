@@ -0,0 +1,51 @@
+package com.benchmarks.partition;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.openjdk.jmh.annotations.*;
+
+// Executor and partition count for the partition* benchmarks. "platform" runs the partitions on a fixed
+// pool with one thread per core. "virtual" starts one virtual thread per partition; it needs JDK 21+, so it
+// is not a default value: pass -p threads=virtual,platform on a runtime that has virtual threads.
+@State(Scope.Benchmark)
+public class PartitionExecutor {
+    @Param({"4","16","64","256"})
+    public int partitions;
+
+    @Param({"platform"})
+    public String threads;
+
+    public ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setupExecutor() {
+        switch (threads) {
+            case "virtual":
+                executor = newVirtualThreadPerTaskExecutor();
+                break;
+            case "platform":
+                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown threads mode: " + threads);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    // Looked up reflectively so the project still builds for older targets. Fails the trial on older
+    // runtimes rather than reporting platform-thread numbers under the "virtual" label.
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("threads=virtual needs JDK 21+, running on "
+                    + Runtime.version(), e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.benchmarks.partition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.ParallelPool;
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+import com.benchmarks.data.Names;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashMapClass filter/map/reduce split into `partitions` pieces along the map's bucket ranges, one
+// task per piece, against parallel streams and the plain loops.
+public class PartitionHashMapClass {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public List<String> firstNames = new ArrayList<String>(Names.FIRST);
+
+        public List<String> lastNames = new ArrayList<String>(Names.LAST);
+
+        public HashMap<String, Student> students;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            // ID = i * N in int arithmetic, as in HashMapClass.
+            var generated = Datasets.students(seed, 1, N, -50, 1, i -> i * N);
+            var keys = Datasets.studentKeys(generated);
+
+            students = new HashMap<String, Student>(N);
+            for (int i = 0; i < N; i++) {
+                students.put(keys[i], generated[i]);
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        var builder = new StringBuilder();
+        var iter = b.students.keySet().iterator();
+
+        while (iter.hasNext()) {
+            var key = iter.next();
+            var student = b.students.get(key);
+            var item = String.format("%s : %s,%s - %s", key, student.firstName, student.lastName,
+                    (student.average > 60) ? Integer.toString(student.average) : "Failed");
+
+            builder.append(item);
+        }
+
+        return builder.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String parallelReduce(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.students.keySet().parallelStream().map(k -> {
+            var student = b.students.get(k);
+            return String.format("%s : %s,%s - %s", k, student.firstName, student.lastName,
+                    (student.average > 60) ? Integer.toString(student.average) : "Failed");
+        }).collect(StringBuilder::new, (sb, s) -> sb.append(s), (sb1, sb2) -> sb1.append(sb2.toString())).toString());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String partitionReduce(Bench b, PartitionExecutor e) {
+        var parts = Partitions.fanOut(b.students.keySet(), e.partitions, e.executor, part -> {
+            var builder = new StringBuilder();
+            part.forEachRemaining(key -> {
+                var student = b.students.get(key);
+                builder.append(String.format("%s : %s,%s - %s", key, student.firstName, student.lastName,
+                        (student.average > 60) ? Integer.toString(student.average) : "Failed"));
+            });
+
+            return builder;
+        });
+
+        var result = new StringBuilder();
+        for (var part : parts) {
+            result.append(part);
+        }
+
+        return result.toString();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> loopFilter(Bench b) {
+        var iter = b.students.keySet().iterator();
+        var result = new HashMap<String, Student>();
+
+        while (iter.hasNext()) {
+            var k = iter.next();
+            var s = b.students.get(k);
+            if (s.average >= 70 && s.firstName.contains(" ") && s.lastName.contains(" ") && s.ID >= 0) {
+                result.put(k, s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> parallelFilter(Bench b, ParallelPool p) {
+        return p.invoke(() -> new HashMap<String, Student>(b.students.entrySet().parallelStream().filter(kvp ->
+            kvp.getValue().average >= 70 &&
+            kvp.getValue().firstName.contains(" ") &&
+            kvp.getValue().lastName.contains(" ") &&
+            kvp.getValue().ID >= 0).collect(Collectors.toMap(kvp -> kvp.getKey(), kvp -> kvp.getValue()))));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> partitionFilter(Bench b, PartitionExecutor e) {
+        var parts = Partitions.fanOut(b.students.entrySet(), e.partitions, e.executor, part -> {
+            var kept = new HashMap<String, Student>();
+            part.forEachRemaining(kvp -> {
+                var s = kvp.getValue();
+                if (s.average >= 70 && s.firstName.contains(" ") && s.lastName.contains(" ") && s.ID >= 0) {
+                    kept.put(kvp.getKey(), s);
+                }
+            });
+
+            return kept;
+        });
+
+        var result = new HashMap<String, Student>();
+        for (var part : parts) {
+            result.putAll(part);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, String> loopMap(Bench b) {
+        var result = new HashMap<Integer, String>(b.students.size());
+        var iter = b.students.keySet().iterator();
+
+        for (int i = 0; iter.hasNext(); i++) {
+            var k = iter.next();
+            var s = b.students.get(k);
+
+            var item = String.format("%s,%s - %d", s.lastName, s.firstName, s.average);
+            result.put(i, item);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, String> parallelMap(Bench b, ParallelPool p) {
+        // Keys are positions in a snapshot of the values, so no thread updates a shared counter.
+        var values = b.students.values().toArray(new Student[0]);
+        return p.invoke(() -> new HashMap<Integer, String>(IntStream.range(0, values.length)
+            .parallel()
+            .boxed()
+            .collect(Collectors.toMap(
+                i -> i,
+                i -> String.format("%s,%s - %d", values[i].lastName, values[i].firstName, values[i].average)))));
+    }
+
+    // Partitions format their values; keys are numbered in encounter order while merging.
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Integer, String> partitionMap(Bench b, PartitionExecutor e) {
+        var parts = Partitions.fanOut(b.students.values(), e.partitions, e.executor, part -> {
+            var items = new ArrayList<String>();
+            part.forEachRemaining(s -> items.add(String.format("%s,%s - %d", s.lastName, s.firstName, s.average)));
+
+            return items;
+        });
+
+        var result = new HashMap<Integer, String>(b.students.size());
+        int i = 0;
+
+        for (var part : parts) {
+            for (var item : part) {
+                result.put(i++, item);
+            }
+        }
+
+        return result;
+    }
+}
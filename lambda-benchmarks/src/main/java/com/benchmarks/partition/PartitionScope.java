@@ -0,0 +1,61 @@
+package com.benchmarks.partition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Minimal structured scope over an ExecutorService: subtasks forked in the scope are joined
+ * together and their results returned in fork order. If any subtask fails, the remaining ones
+ * are cancelled and the failure is rethrown from {@link #join()}. Closing the scope cancels
+ * whatever has not completed, so no subtask is left running past the try-with-resources block.
+ *
+ * Stands in for StructuredTaskScope, which is a preview API only available from JDK 21.
+ */
+public class PartitionScope<R> implements AutoCloseable {
+    private final ExecutorService executor;
+    private final List<Future<R>> subtasks = new ArrayList<Future<R>>();
+
+    public PartitionScope(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public void fork(Callable<R> task) {
+        subtasks.add(executor.submit(task));
+    }
+
+    public List<R> join() {
+        var results = new ArrayList<R>(subtasks.size());
+
+        try {
+            for (var subtask : subtasks) {
+                results.add(subtask.get());
+            }
+        } catch (ExecutionException e) {
+            cancelAll();
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while joining partitions");
+        }
+
+        return results;
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        for (var subtask : subtasks) {
+            subtask.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.benchmarks.partition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Splits a collection into partitions with its own spliterator and runs one task per partition
+ * in a {@link PartitionScope}. Results come back in encounter order, so merging them in list
+ * order preserves the order a sequential loop would see.
+ */
+public final class Partitions {
+
+    private Partitions() {
+    }
+
+    public static <T, R> List<R> fanOut(Collection<T> data, int partitions, ExecutorService executor,
+            Function<Spliterator<T>, R> task) {
+        try (var scope = new PartitionScope<R>(executor)) {
+            for (var part : split(data.spliterator(), partitions)) {
+                scope.fork(() -> task.apply(part));
+            }
+
+            return scope.join();
+        }
+    }
+
+    // Splits the largest remaining partition until there are `partitions` of them or none splits further.
+    public static <T> List<Spliterator<T>> split(Spliterator<T> source, int partitions) {
+        var parts = new ArrayList<Spliterator<T>>(partitions);
+        parts.add(source);
+
+        while (parts.size() < partitions) {
+            int largest = 0;
+            for (int i = 1; i < parts.size(); i++) {
+                if (parts.get(i).estimateSize() > parts.get(largest).estimateSize()) {
+                    largest = i;
+                }
+            }
+
+            var prefix = parts.get(largest).trySplit();
+            if (prefix == null) {
+                break;
+            }
+
+            parts.add(largest, prefix);
+        }
+
+        return parts;
+    }
+}
@@ -0,0 +1,61 @@
+package com.benchmarks.predicate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.ArrayList.ArrayListClass;
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+// The ArrayListClass Contains conjunction as a filter, on re-skewed averages: the hand-written
+// loop and staticFilter keep the written order, adaptiveFilter reorders by sampled cost and selectivity.
+public class AdaptiveArrayListClass {
+
+    @State(Scope.Thread)
+    public static class Bench extends ArrayListClass.Bench {
+        @Param({"uniform","skewed","shifting"})
+        public String distribution;
+        public AdaptiveFilter staticFilter;
+        public AdaptiveFilter adaptiveFilter;
+
+        @Setup(Level.Trial)
+        public void setupFilters() {
+            Skew.apply(students, distribution, Datasets.random(seed, 2));
+
+            var spec = QuerySpec.where(Field.AVERAGE, Operator.GE, 70)
+                    .and(Field.AVERAGE, Operator.LE, 85)
+                    .and(Field.FIRST_NAME, Operator.CONTAINS, " ")
+                    .and(Field.LAST_NAME, Operator.CONTAINS, "es");
+
+            staticFilter = AdaptiveFilter.staticOrder(spec);
+            adaptiveFilter = new AdaptiveFilter(spec);
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopFilter(Bench b) {
+        int size = b.students.size();
+        var result = new ArrayList<Student>();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> staticFilter(Bench b) {
+        return b.staticFilter.filter(b.students);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> adaptiveFilter(Bench b) {
+        return b.adaptiveFilter.filter(b.students);
+    }
+}
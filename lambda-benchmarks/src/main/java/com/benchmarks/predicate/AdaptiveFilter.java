@@ -0,0 +1,165 @@
+package com.benchmarks.predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.benchmarks.Student;
+
+/**
+ * Conjunctive filter that reorders its terms by observed cost and selectivity. At the start of
+ * every traversal, and again every {@code resampleInterval} elements, the next
+ * {@code sampleSize} elements are buffered and every term is run over the whole sample, timing it
+ * and counting how many elements pass. Terms are then ordered by {@code cost / (1 - selectivity)},
+ * the order that minimizes the expected cost per element for independent terms, so a cheap term
+ * that rejects little moves behind an expensive one that rejects most elements.
+ *
+ * Each term is one condition compiled with {@link PredicateCompiler}. Costs are smoothed across
+ * samples, since a sample is only a few microseconds of work; selectivity is taken from the latest
+ * sample so a shift in the data is followed immediately. Instances are not thread-safe.
+ */
+public class AdaptiveFilter {
+    public static final int DEFAULT_SAMPLE_SIZE = 256;
+    public static final int DEFAULT_RESAMPLE_INTERVAL = 16384;
+
+    private final List<Condition> conditions;
+    private final Predicate<Student>[] terms;
+    private final double[] cost;
+    private final double[] selectivity;
+    private final int sampleSize;
+    private final int resampleInterval;
+    private final Student[] sample;
+    private final int[] passed;
+
+    // Indices into terms, cheapest expected rejection first.
+    private int[] order;
+    private Predicate<Student>[] ordered;
+
+    public AdaptiveFilter(QuerySpec spec) {
+        this(spec, DEFAULT_SAMPLE_SIZE, DEFAULT_RESAMPLE_INTERVAL);
+    }
+
+    // resampleInterval 0 disables adaptation: terms are always evaluated in spec order.
+    @SuppressWarnings("unchecked")
+    public AdaptiveFilter(QuerySpec spec, int sampleSize, int resampleInterval) {
+        conditions = spec.conditions();
+        int count = conditions.size();
+
+        terms = (Predicate<Student>[]) new Predicate<?>[count];
+        for (int i = 0; i < count; i++) {
+            var condition = conditions.get(i);
+            terms[i] = PredicateCompiler.compile(QuerySpec.where(condition.field, condition.operator, condition.constant));
+        }
+
+        cost = new double[count];
+        selectivity = new double[count];
+        this.sampleSize = sampleSize;
+        this.resampleInterval = resampleInterval;
+        sample = new Student[resampleInterval > 0 ? sampleSize : 0];
+        passed = new int[sample.length];
+
+        order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        ordered = terms.clone();
+    }
+
+    public static AdaptiveFilter staticOrder(QuerySpec spec) {
+        return new AdaptiveFilter(spec, 0, 0);
+    }
+
+    public ArrayList<Student> filter(Collection<? extends Student> students) {
+        var result = new ArrayList<Student>();
+        var iter = students.iterator();
+        int untilSample = 0;
+
+        while (iter.hasNext()) {
+            if (resampleInterval > 0 && untilSample == 0) {
+                int buffered = 0;
+                while (buffered < sampleSize && iter.hasNext()) {
+                    sample[buffered++] = iter.next();
+                }
+
+                adapt(buffered);
+                for (int i = 0; i < buffered; i++) {
+                    if (passed[i] == terms.length) {
+                        result.add(sample[i]);
+                    }
+                }
+
+                untilSample = resampleInterval;
+                continue;
+            }
+
+            var s = iter.next();
+            if (matches(ordered, s)) {
+                result.add(s);
+            }
+
+            untilSample--;
+        }
+
+        Arrays.fill(sample, null);
+        return result;
+    }
+
+    // Current evaluation order.
+    public List<Condition> order() {
+        var result = new ArrayList<Condition>(order.length);
+        for (var index : order) {
+            result.add(conditions.get(index));
+        }
+
+        return result;
+    }
+
+    private static boolean matches(Predicate<Student>[] terms, Student s) {
+        for (var term : terms) {
+            if (!term.test(s)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Runs every term over sample[0..size), updating passed[] per element and the term statistics.
+    private void adapt(int size) {
+        Arrays.fill(passed, 0, size, 0);
+
+        for (int t = 0; t < terms.length; t++) {
+            var term = terms[t];
+            int pass = 0;
+            long start = System.nanoTime();
+
+            for (int i = 0; i < size; i++) {
+                if (term.test(sample[i])) {
+                    passed[i]++;
+                    pass++;
+                }
+            }
+
+            double elapsed = (double) (System.nanoTime() - start) / Math.max(1, size);
+            cost[t] = cost[t] == 0 ? elapsed : (cost[t] + elapsed) / 2;
+            selectivity[t] = size == 0 ? 1 : (double) pass / size;
+        }
+
+        var ranked = new Integer[terms.length];
+        for (int t = 0; t < ranked.length; t++) {
+            ranked[t] = t;
+        }
+        Arrays.sort(ranked, Comparator.comparingDouble(t -> cost[t] / Math.max(1e-3, 1 - selectivity[t])));
+
+        @SuppressWarnings("unchecked")
+        var next = (Predicate<Student>[]) new Predicate<?>[terms.length];
+        for (int i = 0; i < ranked.length; i++) {
+            order[i] = ranked[i];
+            next[i] = terms[ranked[i]];
+        }
+        ordered = next;
+    }
+}
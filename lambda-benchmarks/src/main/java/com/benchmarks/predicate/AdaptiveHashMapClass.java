@@ -0,0 +1,59 @@
+package com.benchmarks.predicate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.HashMap.HashMapClass;
+import com.benchmarks.Student;
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+// The HashMapClass filter conjunction over the map values, on re-skewed averages: the hand-written
+// loop and staticFilter keep the written order, adaptiveFilter reorders by sampled cost and selectivity.
+public class AdaptiveHashMapClass {
+
+    @State(Scope.Thread)
+    public static class Bench extends HashMapClass.Bench {
+        @Param({"uniform","skewed","shifting"})
+        public String distribution;
+        public AdaptiveFilter staticFilter;
+        public AdaptiveFilter adaptiveFilter;
+
+        @Setup(Level.Trial)
+        public void setupFilters() {
+            Skew.apply(students.values(), distribution, Datasets.random(seed, 2));
+
+            var spec = QuerySpec.where(Field.AVERAGE, Operator.GE, 70)
+                    .and(Field.FIRST_NAME, Operator.CONTAINS, " ")
+                    .and(Field.LAST_NAME, Operator.CONTAINS, " ")
+                    .and(Field.ID, Operator.GE, 0);
+
+            staticFilter = AdaptiveFilter.staticOrder(spec);
+            adaptiveFilter = new AdaptiveFilter(spec);
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopFilter(Bench b) {
+        var result = new ArrayList<Student>();
+
+        for (var s : b.students.values()) {
+            if (s.average >= 70 && s.firstName.contains(" ") && s.lastName.contains(" ") && s.ID >= 0) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> staticFilter(Bench b) {
+        return b.staticFilter.filter(b.students.values());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> adaptiveFilter(Bench b) {
+        return b.adaptiveFilter.filter(b.students.values());
+    }
+}
@@ -0,0 +1,60 @@
+package com.benchmarks.predicate;
+
+import java.util.function.Predicate;
+
+import com.benchmarks.Student;
+
+/**
+ * One {@code field operator constant} test. Numeric fields take Number constants with the
+ * comparison operators; string fields take CONTAINS with a String or LENGTH_GT with a Number.
+ */
+public final class Condition {
+    public final Field field;
+    public final Operator operator;
+    public final Object constant;
+
+    public Condition(Field field, Operator operator, Object constant) {
+        boolean valid = field.isNumeric()
+                ? operator.isNumeric() && constant instanceof Number
+                : (operator == Operator.CONTAINS && constant instanceof String)
+                        || (operator == Operator.LENGTH_GT && constant instanceof Number);
+        if (!valid) {
+            throw new IllegalArgumentException("Unsupported condition: " + field + " " + operator + " " + constant);
+        }
+
+        this.field = field;
+        this.operator = operator;
+        this.constant = constant;
+    }
+
+    // The interpreted form: a lambda per condition, as a hand-composed filter would be written.
+    public Predicate<Student> toPredicate() {
+        switch (field) {
+            case AVERAGE: {
+                int value = ((Number) constant).intValue();
+                var op = operator;
+                return s -> op.compare(Integer.compare(s.average, value));
+            }
+            case ID: {
+                long value = ((Number) constant).longValue();
+                var op = operator;
+                return s -> op.compare(Long.compare(s.ID, value));
+            }
+            default: {
+                boolean first = field == Field.FIRST_NAME;
+                if (operator == Operator.CONTAINS) {
+                    var value = (String) constant;
+                    return first ? s -> s.firstName.contains(value) : s -> s.lastName.contains(value);
+                }
+
+                int length = ((Number) constant).intValue();
+                return first ? s -> s.firstName.length() > length : s -> s.lastName.length() > length;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + operator + " " + constant;
+    }
+}
@@ -0,0 +1,21 @@
+package com.benchmarks.predicate;
+
+// Student fields a Condition can test, with the JVM descriptor the compiler reads them with.
+public enum Field {
+    AVERAGE("average", "I"),
+    ID("ID", "J"),
+    FIRST_NAME("firstName", "Ljava/lang/String;"),
+    LAST_NAME("lastName", "Ljava/lang/String;");
+
+    final String name;
+    final String descriptor;
+
+    Field(String name, String descriptor) {
+        this.name = name;
+        this.descriptor = descriptor;
+    }
+
+    boolean isNumeric() {
+        return this == AVERAGE || this == ID;
+    }
+}
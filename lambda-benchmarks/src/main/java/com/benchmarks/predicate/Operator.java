@@ -0,0 +1,24 @@
+package com.benchmarks.predicate;
+
+public enum Operator {
+    // Numeric fields, numeric constant.
+    LT, LE, GT, GE, EQ, NE,
+    // String fields: CONTAINS takes a String constant, LENGTH_GT an int.
+    CONTAINS, LENGTH_GT;
+
+    boolean isNumeric() {
+        return ordinal() <= NE.ordinal();
+    }
+
+    boolean compare(int result) {
+        switch (this) {
+            case LT: return result < 0;
+            case LE: return result <= 0;
+            case GT: return result > 0;
+            case GE: return result >= 0;
+            case EQ: return result == 0;
+            case NE: return result != 0;
+            default: throw new IllegalStateException(this + " is not a comparison");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.benchmarks.predicate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.benchmarks.ArrayList.ArrayListClass;
+import com.benchmarks.Student;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListClass filters as hand-written loops, Predicate.and chains and compiled hidden classes.
+// *Mixed evaluates the Iterate, Contains and Filter specs through one shared loop, so its
+// predicate call site sees three receiver types, as a generic filter helper in real code would.
+public class PredicateArrayListClass {
+
+    @State(Scope.Thread)
+    public static class Bench extends ArrayListClass.Bench {
+        public ArrayListClass loops = new ArrayListClass();
+        public List<Predicate<Student>> composed;
+        public List<Predicate<Student>> compiled;
+
+        @Setup(Level.Trial)
+        public void setupPredicates() {
+            var specs = List.of(
+                    QuerySpec.where(Field.FIRST_NAME, Operator.LENGTH_GT, 0)
+                            .and(Field.AVERAGE, Operator.GE, 50)
+                            .and(Field.ID, Operator.LT, Long.MAX_VALUE),
+                    QuerySpec.where(Field.AVERAGE, Operator.GE, 70)
+                            .and(Field.AVERAGE, Operator.LE, 85)
+                            .and(Field.FIRST_NAME, Operator.CONTAINS, " ")
+                            .and(Field.LAST_NAME, Operator.CONTAINS, "es"),
+                    QuerySpec.where(Field.AVERAGE, Operator.GT, 50)
+                            .and(Field.AVERAGE, Operator.LT, 70)
+                            .and(Field.FIRST_NAME, Operator.CONTAINS, "i")
+                            .and(Field.ID, Operator.GT, target));
+
+            composed = new ArrayList<Predicate<Student>>();
+            compiled = new ArrayList<Predicate<Student>>();
+
+            for (var spec : specs) {
+                composed.add(spec.toPredicate());
+                compiled.add(PredicateCompiler.compile(spec));
+            }
+        }
+    }
+
+    private static final int ITERATE = 0, CONTAINS = 1, FILTER = 2;
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopFilter(Bench b) {
+        return b.loops.loopFilter(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> composedFilter(Bench b) {
+        return select(b.students, b.composed.get(FILTER));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> compiledFilter(Bench b) {
+        return select(b.students, b.compiled.get(FILTER));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        return b.loops.loopIterate(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int composedIterate(Bench b) {
+        return count(b.students, b.composed.get(ITERATE));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int compiledIterate(Bench b) {
+        return count(b.students, b.compiled.get(ITERATE));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopMixed(Bench b) {
+        int count = 0;
+        int size = b.students.size();
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.firstName.length() > 0 && s.average >= 50 && s.ID < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average >= 70 && s.average <= 85 && s.firstName.contains(" ") && s.lastName.contains("es")) {
+                count++;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            var s = b.students.get(i);
+            if (s.average > 50 && s.average < 70 && s.firstName.contains("i") && s.ID > b.target) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int composedMixed(Bench b) {
+        int count = 0;
+        for (var predicate : b.composed) {
+            count += count(b.students, predicate);
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int compiledMixed(Bench b) {
+        int count = 0;
+        for (var predicate : b.compiled) {
+            count += count(b.students, predicate);
+        }
+
+        return count;
+    }
+
+    private static int count(ArrayList<Student> students, Predicate<Student> predicate) {
+        int count = 0;
+        int size = students.size();
+
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(students.get(i))) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static ArrayList<Student> select(ArrayList<Student> students, Predicate<Student> predicate) {
+        int size = students.size();
+        var result = new ArrayList<Student>(size);
+
+        for (int i = 0; i < size; i++) {
+            var s = students.get(i);
+            if (predicate.test(s)) {
+                result.add(s);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,286 @@
+package com.benchmarks.predicate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.benchmarks.Student;
+
+/**
+ * Compiles a {@link QuerySpec} into a hidden class implementing {@code Predicate<Student>} whose
+ * {@code test} method reads the fields directly and inlines the constants, as a hand-written
+ * {@code if} would. Every compiled spec is its own class, so a call site never sees another
+ * spec's conditions in its type profile.
+ *
+ * The class file is written by hand as version 49, which needs no StackMapTable, so no bytecode
+ * library is required.
+ */
+public final class PredicateCompiler {
+    private static final String STUDENT = "com/benchmarks/Student";
+    private static final String CLASS_NAME = "com/benchmarks/predicate/CompiledPredicate";
+
+    private static final int CLASS_VERSION = 49;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_2 = 0x2c, ASTORE_2 = 0x4d;
+    private static final int ICONST_0 = 0x03, ICONST_1 = 0x04;
+    private static final int LDC_W = 0x13, LDC2_W = 0x14, LCMP = 0x94;
+    private static final int IFEQ = 0x99, IF_ICMPEQ = 0x9f, IF_ICMPLE = 0xa4;
+    private static final int IRETURN = 0xac, RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4, INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, CHECKCAST = 0xc0;
+
+    private PredicateCompiler() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Predicate<Student> compile(QuerySpec spec) {
+        try {
+            var lookup = MethodHandles.lookup().defineHiddenClass(classFile(spec), true);
+            var constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class));
+
+            return (Predicate<Student>) constructor.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not define predicate for " + spec, e);
+        }
+    }
+
+    static byte[] classFile(QuerySpec spec) {
+        var pool = new ConstantPool();
+        int thisClass = pool.classRef(CLASS_NAME);
+        int superClass = pool.classRef("java/lang/Object");
+        int predicate = pool.classRef("java/util/function/Predicate");
+        int init = pool.utf8("<init>");
+        int initDescriptor = pool.utf8("()V");
+        int test = pool.utf8("test");
+        int testDescriptor = pool.utf8("(Ljava/lang/Object;)Z");
+        int code = pool.utf8("Code");
+
+        var constructor = new ByteArrayOutputStream();
+        constructor.write(ALOAD_0);
+        constructor.write(INVOKESPECIAL);
+        writeShort(constructor, pool.methodRef("java/lang/Object", "<init>", "()V"));
+        constructor.write(RETURN);
+
+        var body = testBody(spec, pool);
+
+        try {
+            var bytes = new ByteArrayOutputStream();
+            var out = new DataOutputStream(bytes);
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(predicate);
+            out.writeShort(0);
+            out.writeShort(2);
+            writeMethod(out, init, initDescriptor, code, 1, 1, constructor.toByteArray());
+            writeMethod(out, test, testDescriptor, code, 4, 3, body);
+            out.writeShort(0);
+
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // test(Object): cast once, then one block per condition that jumps to `return false` when it fails.
+    private static byte[] testBody(QuerySpec spec, ConstantPool pool) {
+        var code = new ByteArrayOutputStream();
+        var jumps = new ArrayList<Integer>();
+
+        code.write(ALOAD_1);
+        code.write(CHECKCAST);
+        writeShort(code, pool.classRef(STUDENT));
+        code.write(ASTORE_2);
+
+        for (var condition : spec.conditions()) {
+            var field = condition.field;
+            code.write(ALOAD_2);
+            code.write(GETFIELD);
+            writeShort(code, pool.fieldRef(STUDENT, field.name, field.descriptor));
+
+            int jump;
+            switch (condition.operator) {
+                case CONTAINS:
+                    code.write(LDC_W);
+                    writeShort(code, pool.string((String) condition.constant));
+                    code.write(INVOKEVIRTUAL);
+                    writeShort(code, pool.methodRef("java/lang/String", "contains", "(Ljava/lang/CharSequence;)Z"));
+                    jump = IFEQ;
+                    break;
+                case LENGTH_GT:
+                    code.write(INVOKEVIRTUAL);
+                    writeShort(code, pool.methodRef("java/lang/String", "length", "()I"));
+                    code.write(LDC_W);
+                    writeShort(code, pool.integer(((Number) condition.constant).intValue()));
+                    jump = IF_ICMPLE;
+                    break;
+                default:
+                    if (field == Field.ID) {
+                        code.write(LDC2_W);
+                        writeShort(code, pool.longValue(((Number) condition.constant).longValue()));
+                        code.write(LCMP);
+                        jump = IFEQ + failing(condition.operator);
+                    } else {
+                        code.write(LDC_W);
+                        writeShort(code, pool.integer(((Number) condition.constant).intValue()));
+                        jump = IF_ICMPEQ + failing(condition.operator);
+                    }
+            }
+
+            jumps.add(code.size());
+            code.write(jump);
+            writeShort(code, 0);
+        }
+
+        code.write(ICONST_1);
+        code.write(IRETURN);
+        int returnFalse = code.size();
+        code.write(ICONST_0);
+        code.write(IRETURN);
+
+        var bytes = code.toByteArray();
+        for (int at : jumps) {
+            int offset = returnFalse - at;
+            bytes[at + 1] = (byte) (offset >> 8);
+            bytes[at + 2] = (byte) offset;
+        }
+
+        return bytes;
+    }
+
+    // Offset from ifeq/if_icmpeq of the branch taken when the comparison fails; both opcode
+    // families are ordered eq, ne, lt, ge, gt, le.
+    private static int failing(Operator operator) {
+        switch (operator) {
+            case EQ: return 1;
+            case NE: return 0;
+            case LT: return 3;
+            case GE: return 2;
+            case GT: return 5;
+            case LE: return 4;
+            default: throw new IllegalArgumentException(operator + " is not a comparison");
+        }
+    }
+
+    private static void writeMethod(DataOutputStream out, int name, int descriptor, int codeAttribute,
+            int maxStack, int maxLocals, byte[] code) throws IOException {
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeAttribute);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value >> 8);
+        out.write(value);
+    }
+
+    // Deduplicating constant pool; entries are numbered from 1 and longs take two slots.
+    private static final class ConstantPool {
+        private static final int UTF8 = 1, INTEGER = 3, LONG = 5, CLASS = 7, STRING = 8;
+        private static final int FIELDREF = 9, METHODREF = 10, NAME_AND_TYPE = 12;
+
+        private final List<Object[]> entries = new ArrayList<Object[]>();
+        private final HashMap<String, Integer> indices = new HashMap<String, Integer>();
+        private int next = 1;
+
+        int utf8(String value) {
+            return add(UTF8, value);
+        }
+
+        int integer(int value) {
+            return add(INTEGER, value);
+        }
+
+        int longValue(long value) {
+            return add(LONG, value);
+        }
+
+        int string(String value) {
+            return add(STRING, utf8(value));
+        }
+
+        int classRef(String internalName) {
+            return add(CLASS, utf8(internalName));
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return add(FIELDREF, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return add(METHODREF, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            return add(NAME_AND_TYPE, utf8(name), utf8(descriptor));
+        }
+
+        private int add(int tag, Object... values) {
+            var key = new StringBuilder().append(tag);
+            for (var value : values) {
+                key.append('\u0000').append(value);
+            }
+
+            var index = indices.get(key.toString());
+            if (index != null) {
+                return index;
+            }
+
+            var entry = new Object[values.length + 1];
+            entry[0] = tag;
+            System.arraycopy(values, 0, entry, 1, values.length);
+            entries.add(entry);
+
+            index = next;
+            next += tag == LONG ? 2 : 1;
+            indices.put(key.toString(), index);
+
+            return index;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeShort(next);
+            for (var entry : entries) {
+                int tag = (Integer) entry[0];
+                out.writeByte(tag);
+
+                switch (tag) {
+                    case UTF8: out.writeUTF((String) entry[1]); break;
+                    case INTEGER: out.writeInt((Integer) entry[1]); break;
+                    case LONG: out.writeLong((Long) entry[1]); break;
+                    case CLASS:
+                    case STRING: out.writeShort((Integer) entry[1]); break;
+                    default:
+                        out.writeShort((Integer) entry[1]);
+                        out.writeShort((Integer) entry[2]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.benchmarks.predicate;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.benchmarks.HashMap.HashMapClass;
+import com.benchmarks.Student;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashMapClass.loopFilter against the same filter as a Predicate.and chain and as a compiled hidden class.
+public class PredicateHashMapClass {
+
+    @State(Scope.Thread)
+    public static class Bench extends HashMapClass.Bench {
+        public HashMapClass loops = new HashMapClass();
+        public Predicate<Student> composed;
+        public Predicate<Student> compiled;
+
+        @Setup(Level.Trial)
+        public void setupPredicates() {
+            var spec = QuerySpec.where(Field.AVERAGE, Operator.GE, 70)
+                    .and(Field.FIRST_NAME, Operator.CONTAINS, " ")
+                    .and(Field.LAST_NAME, Operator.CONTAINS, " ")
+                    .and(Field.ID, Operator.GE, 0);
+
+            composed = spec.toPredicate();
+            compiled = PredicateCompiler.compile(spec);
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> loopFilter(Bench b) {
+        return b.loops.loopFilter(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> composedFilter(Bench b) {
+        return select(b.students, b.composed);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<String, Student> compiledFilter(Bench b) {
+        return select(b.students, b.compiled);
+    }
+
+    private static HashMap<String, Student> select(HashMap<String, Student> students, Predicate<Student> predicate) {
+        var result = new HashMap<String, Student>();
+        for (var kvp : students.entrySet()) {
+            if (predicate.test(kvp.getValue())) {
+                result.put(kvp.getKey(), kvp.getValue());
+            }
+        }
+
+        return result;
+    }
+}
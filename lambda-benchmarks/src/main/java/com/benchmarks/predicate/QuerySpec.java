@@ -0,0 +1,47 @@
+package com.benchmarks.predicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.benchmarks.Student;
+
+// Conjunction of Conditions, evaluated left to right with short-circuiting.
+public final class QuerySpec {
+    private final List<Condition> conditions;
+
+    private QuerySpec(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    public static QuerySpec where(Field field, Operator operator, Object constant) {
+        return new QuerySpec(List.of(new Condition(field, operator, constant)));
+    }
+
+    public QuerySpec and(Field field, Operator operator, Object constant) {
+        var next = new ArrayList<Condition>(conditions);
+        next.add(new Condition(field, operator, constant));
+
+        return new QuerySpec(Collections.unmodifiableList(next));
+    }
+
+    public List<Condition> conditions() {
+        return conditions;
+    }
+
+    // Predicate.and chain of the per-condition lambdas.
+    public Predicate<Student> toPredicate() {
+        var predicate = conditions.get(0).toPredicate();
+        for (int i = 1; i < conditions.size(); i++) {
+            predicate = predicate.and(conditions.get(i).toPredicate());
+        }
+
+        return predicate;
+    }
+
+    @Override
+    public String toString() {
+        return conditions.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.benchmarks.predicate;
+
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+import com.benchmarks.Student;
+
+// Rewrites Student averages for the adaptive benchmarks. "uniform": 0..100. "skewed": 95% inside
+// 70..85, so average range tests reject almost nothing. "shifting": skewed for the first half of
+// the iteration order, then 0..69, so the average tests reject everything.
+final class Skew {
+
+    private Skew() {
+    }
+
+    static void apply(Collection<? extends Student> students, String distribution, SplittableRandom rnd) {
+        int half = students.size() / 2;
+        int i = 0;
+
+        for (var s : students) {
+            switch (distribution) {
+                case "uniform":
+                    s.average = rnd.nextInt(101);
+                    break;
+                case "skewed":
+                    s.average = skewed(rnd);
+                    break;
+                case "shifting":
+                    s.average = i < half ? skewed(rnd) : rnd.nextInt(70);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+
+            i++;
+        }
+    }
+
+    private static int skewed(SplittableRandom rnd) {
+        return rnd.nextInt(100) < 95 ? 70 + rnd.nextInt(16) : rnd.nextInt(101);
+    }
+}
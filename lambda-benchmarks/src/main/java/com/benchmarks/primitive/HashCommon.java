@@ -0,0 +1,36 @@
+package com.benchmarks.primitive;
+
+final class HashCommon {
+    static final float LOAD_FACTOR = 0.75f;
+
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    private HashCommon() {
+    }
+
+    static int mix(int x) {
+        int h = x * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long x) {
+        long h = x * LONG_PHI;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    // Smallest power of two table that keeps `expected` entries under the load factor.
+    static int tableSize(int expected) {
+        long needed = Math.max(2L, (long) Math.ceil(expected / (double) LOAD_FACTOR));
+        if (needed > (1 << 30)) {
+            throw new IllegalArgumentException("Too many elements: " + expected);
+        }
+
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    static int maxFill(int tableSize) {
+        return Math.min((int) Math.ceil(tableSize * LOAD_FACTOR), tableSize - 1);
+    }
+}
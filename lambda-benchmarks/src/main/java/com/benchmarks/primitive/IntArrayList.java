@@ -0,0 +1,112 @@
+package com.benchmarks.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayList(int capacity) {
+        elements = new int[capacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+
+        elements[size++] = value;
+    }
+
+    public void addAll(IntArrayList other) {
+        if (size + other.size > elements.length) {
+            grow(size + other.size);
+        }
+
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        Objects.checkIndex(index, size);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return elements[cursor++];
+            }
+        };
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public IntArrayList copy() {
+        var copy = new IntArrayList(0);
+        copy.elements = toArray();
+        copy.size = size;
+
+        return copy;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, DEFAULT_CAPACITY));
+    }
+}
@@ -0,0 +1,252 @@
+package com.benchmarks.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Linear-probing int set. Key 0 marks a free slot, so a real 0 element is tracked
+ * by a flag and reported through the extra slot at index {@code mask + 1}.
+ */
+public class IntHashSet {
+    private int[] keys;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expected) {
+        allocate(HashCommon.tableSize(expected));
+    }
+
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int pos = HashCommon.mix(value) & mask;
+        int current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == value) {
+                return false;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        keys[pos] = value;
+
+        if (++size >= maxFill) {
+            rehash((mask + 1) << 1);
+        }
+
+        return true;
+    }
+
+    public void addAll(IntHashSet other) {
+        other.forEach(this::add);
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+
+        int pos = HashCommon.mix(value) & mask;
+        int current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == value) {
+                return true;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int pos = HashCommon.mix(value) & mask;
+        int current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == value) {
+                size--;
+                shiftKeys(pos);
+                return true;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (isUsed(i)) {
+                action.accept(keys[i]);
+            }
+        }
+    }
+
+    public IntHashSet filter(IntPredicate predicate) {
+        var result = new IntHashSet();
+        for (int i = 0; i < keys.length; i++) {
+            if (isUsed(i) && predicate.test(keys[i])) {
+                result.add(keys[i]);
+            }
+        }
+
+        return result;
+    }
+
+    public IntHashSet copy() {
+        var copy = new IntHashSet(0);
+        copy.keys = keys.clone();
+        copy.mask = mask;
+        copy.maxFill = maxFill;
+        copy.size = size;
+        copy.containsZero = containsZero;
+
+        return copy;
+    }
+
+    public IntStream stream() {
+        return IntStream.range(0, keys.length).filter(this::isUsed).map(i -> keys[i]);
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int slot = nextSlot(-1);
+
+            @Override
+            public boolean hasNext() {
+                return slot < keys.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (slot >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+
+                int value = keys[slot];
+                slot = nextSlot(slot);
+                return value;
+            }
+        };
+    }
+
+    // Slot-level access for index loops: slots run from 0 to capacity() - 1.
+    public int capacity() {
+        return keys.length;
+    }
+
+    public boolean isUsed(int slot) {
+        return slot <= mask ? keys[slot] != 0 : containsZero;
+    }
+
+    public int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    private int nextSlot(int slot) {
+        do {
+            slot++;
+        } while (slot < keys.length && !isUsed(slot));
+
+        return slot;
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize + 1];
+        mask = tableSize - 1;
+        maxFill = HashCommon.maxFill(tableSize);
+    }
+
+    private void rehash(int tableSize) {
+        var oldKeys = keys;
+        int zero = mask + 1;
+
+        allocate(tableSize);
+
+        for (int i = 0; i < zero; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int pos = HashCommon.mix(key) & mask;
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+
+                keys[pos] = key;
+            }
+        }
+    }
+
+    // Backward-shift deletion: pull later entries of the probe run into the freed slot.
+    private void shiftKeys(int pos) {
+        int last;
+        int slot;
+        int current;
+
+        for (;;) {
+            pos = ((last = pos) + 1) & mask;
+
+            for (;;) {
+                if ((current = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+
+                slot = HashCommon.mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+
+                pos = (pos + 1) & mask;
+            }
+
+            keys[last] = current;
+        }
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("[");
+        forEach(v -> sb.append(sb.length() > 1 ? ", " : "").append(v));
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,6 @@
+package com.benchmarks.primitive;
+
+@FunctionalInterface
+public interface IntIntConsumer {
+    void accept(int key, int value);
+}
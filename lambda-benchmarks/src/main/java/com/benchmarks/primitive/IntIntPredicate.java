@@ -0,0 +1,6 @@
+package com.benchmarks.primitive;
+
+@FunctionalInterface
+public interface IntIntPredicate {
+    boolean test(int key, int value);
+}
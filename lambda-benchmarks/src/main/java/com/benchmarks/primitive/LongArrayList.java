@@ -0,0 +1,112 @@
+package com.benchmarks.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+public class LongArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongArrayList(int capacity) {
+        elements = new long[capacity];
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+
+        elements[size++] = value;
+    }
+
+    public void addAll(LongArrayList other) {
+        if (size + other.size > elements.length) {
+            grow(size + other.size);
+        }
+
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public void set(int index, long value) {
+        Objects.checkIndex(index, size);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return elements[cursor++];
+            }
+        };
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public LongArrayList copy() {
+        var copy = new LongArrayList(0);
+        copy.elements = toArray();
+        copy.size = size;
+
+        return copy;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, DEFAULT_CAPACITY));
+    }
+}
@@ -0,0 +1,6 @@
+package com.benchmarks.primitive;
+
+@FunctionalInterface
+public interface LongLongConsumer {
+    void accept(long key, long value);
+}
@@ -0,0 +1,314 @@
+package com.benchmarks.primitive;
+
+import java.util.function.LongBinaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Linear-probing long to long map. Keys and values live in parallel arrays; key 0
+ * marks a free slot, so a real 0 key is kept in the extra slot at index {@code mask + 1}.
+ */
+public class LongLongHashMap {
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private boolean containsZeroKey;
+
+    public LongLongHashMap() {
+        this(16);
+    }
+
+    public LongLongHashMap(int expected) {
+        allocate(HashCommon.tableSize(expected));
+    }
+
+    public long put(long key, long value) {
+        if (key == 0) {
+            int zero = mask + 1;
+            long previous = containsZeroKey ? values[zero] : 0;
+            values[zero] = value;
+
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+
+            return previous;
+        }
+
+        int pos = HashCommon.mix(key) & mask;
+        long current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                long previous = values[pos];
+                values[pos] = value;
+                return previous;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        keys[pos] = key;
+        values[pos] = value;
+
+        if (++size >= maxFill) {
+            rehash((mask + 1) << 1);
+        }
+
+        return 0;
+    }
+
+    public void putAll(LongLongHashMap other) {
+        other.forEach(this::put);
+    }
+
+    public long get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? values[mask + 1] : defaultValue;
+        }
+
+        int pos = HashCommon.mix(key) & mask;
+        long current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                return values[pos];
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return containsZeroKey;
+        }
+
+        int pos = HashCommon.mix(key) & mask;
+        long current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                return true;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public boolean containsValue(long value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (isUsed(i) && values[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public long remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return 0;
+            }
+
+            containsZeroKey = false;
+            size--;
+            return values[mask + 1];
+        }
+
+        int pos = HashCommon.mix(key) & mask;
+        long current;
+
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                long previous = values[pos];
+                size--;
+                shiftKeys(pos);
+                return previous;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(LongLongConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (isUsed(i)) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public long reduceValues(long identity, LongBinaryOperator op) {
+        long result = identity;
+        for (int i = 0; i < keys.length; i++) {
+            if (isUsed(i)) {
+                result = op.applyAsLong(result, values[i]);
+            }
+        }
+
+        return result;
+    }
+
+    public LongLongHashMap filter(LongLongPredicate predicate) {
+        var result = new LongLongHashMap();
+        for (int i = 0; i < keys.length; i++) {
+            if (isUsed(i) && predicate.test(keys[i], values[i])) {
+                result.put(keys[i], values[i]);
+            }
+        }
+
+        return result;
+    }
+
+    public LongLongHashMap copy() {
+        var copy = new LongLongHashMap(0);
+        copy.keys = keys.clone();
+        copy.values = values.clone();
+        copy.mask = mask;
+        copy.maxFill = maxFill;
+        copy.size = size;
+        copy.containsZeroKey = containsZeroKey;
+
+        return copy;
+    }
+
+    public LongStream keys() {
+        return IntStream.range(0, keys.length).filter(this::isUsed).mapToLong(i -> keys[i]);
+    }
+
+    public LongStream values() {
+        return IntStream.range(0, keys.length).filter(this::isUsed).mapToLong(i -> values[i]);
+    }
+
+    // Slot-level access for index loops: slots run from 0 to capacity() - 1.
+    public int capacity() {
+        return keys.length;
+    }
+
+    public boolean isUsed(int slot) {
+        return slot <= mask ? keys[slot] != 0 : containsZeroKey;
+    }
+
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    public long valueAt(int slot) {
+        return values[slot];
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public final class Cursor {
+        private int slot = -1;
+
+        public boolean advance() {
+            while (++slot < keys.length) {
+                if (isUsed(slot)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        public long key() {
+            return keys[slot];
+        }
+
+        public long value() {
+            return values[slot];
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new long[tableSize + 1];
+        values = new long[tableSize + 1];
+        mask = tableSize - 1;
+        maxFill = HashCommon.maxFill(tableSize);
+    }
+
+    private void rehash(int tableSize) {
+        var oldKeys = keys;
+        var oldValues = values;
+        int zero = mask + 1;
+
+        allocate(tableSize);
+
+        for (int i = 0; i < zero; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int pos = HashCommon.mix(key) & mask;
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+
+                keys[pos] = key;
+                values[pos] = oldValues[i];
+            }
+        }
+
+        values[mask + 1] = oldValues[zero];
+    }
+
+    // Backward-shift deletion: pull later entries of the probe run into the freed slot.
+    private void shiftKeys(int pos) {
+        int last;
+        int slot;
+        long current;
+
+        for (;;) {
+            pos = ((last = pos) + 1) & mask;
+
+            for (;;) {
+                if ((current = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+
+                slot = HashCommon.mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+
+                pos = (pos + 1) & mask;
+            }
+
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append('=').append(v));
+
+        return sb.append('}').toString();
+    }
+}
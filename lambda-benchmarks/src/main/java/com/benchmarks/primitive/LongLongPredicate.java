@@ -0,0 +1,6 @@
+package com.benchmarks.primitive;
+
+@FunctionalInterface
+public interface LongLongPredicate {
+    boolean test(long key, long value);
+}
@@ -0,0 +1,446 @@
+package com.benchmarks.primitive;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+public class PrimitiveListInt {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public IntArrayList data;
+        public IntArrayList contains;
+        public IntArrayList filter;
+        public ArrayList<Integer> boxedData;
+        public ArrayList<Integer> boxedContains;
+        public ArrayList<Integer> boxedFilter;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new IntArrayList(N);
+            for (int i = 1; i <= N; i++) {
+                data.add(i);
+            }
+
+            target = Datasets.random(seed, 0).nextInt(-1, 99);
+
+            contains = new IntArrayList(N);
+            for (int v : Datasets.ints(seed, 1, N, -1, 99)) {
+                contains.add(v);
+            }
+
+            filter = new IntArrayList(N);
+            for (int v : Datasets.ints(seed, 2, N, N, 3 * N)) {
+                filter.add(v);
+            }
+
+            boxedData = boxed(data);
+            boxedContains = boxed(contains);
+            boxedFilter = boxed(filter);
+        }
+
+        private static ArrayList<Integer> boxed(IntArrayList values) {
+            var result = new ArrayList<Integer>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                result.add(values.get(i));
+            }
+
+            return result;
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaReduce(Bench b) {
+        return b.data.stream().sum();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopReduce(Bench b) {
+        int total = 0;
+        for (int i = 0; i < b.data.size(); i++) {
+            total += b.data.get(i);
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iteratorReduce(Bench b) {
+        int total = 0;
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            total += iter.nextInt();
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boxedLambdaReduce(Bench b) {
+        return b.boxedData.stream().reduce(0, Integer::sum);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boxedLoopReduce(Bench b) {
+        int total = 0;
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            total += b.boxedData.get(i);
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boxedIteratorReduce(Bench b) {
+        int total = 0;
+        for (var value : b.boxedData) {
+            total += value;
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList lambdaPopulate(Bench b) {
+        var rnd = new Random();
+        return IntStream.iterate(rnd.nextInt(101), i -> i + rnd.nextInt(101)).limit(b.data.size())
+                .collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList loopPopulate(Bench b) {
+        var result = new IntArrayList(b.data.size());
+        var rnd = new Random();
+
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i) + rnd.nextInt(101));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList iteratorPopulate(Bench b) {
+        var result = new IntArrayList(b.data.size());
+        var rnd = new Random();
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            result.add(iter.nextInt() + rnd.nextInt(101));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLambdaPopulate(Bench b) {
+        var rnd = new Random();
+        return Stream.iterate(rnd.nextInt(101), i -> i + rnd.nextInt(101)).limit(b.boxedData.size())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLoopPopulate(Bench b) {
+        var result = new ArrayList<Integer>(b.boxedData.size());
+        var rnd = new Random();
+
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            result.add(b.boxedData.get(i) + rnd.nextInt(101));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedIteratorPopulate(Bench b) {
+        var result = new ArrayList<Integer>(b.boxedData.size());
+        var rnd = new Random();
+
+        for (var value : b.boxedData) {
+            result.add(value + rnd.nextInt(101));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        return (int) b.data.stream().filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        int count = 0;
+        for (int i = 0; i < b.data.size(); i++) {
+            if (b.data.get(i) > 0)
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iteratorIterate(Bench b) {
+        int count = 0;
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.nextInt() > 0)
+                ++count;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boxedLambdaIterate(Bench b) {
+        return (int) b.boxedData.stream().filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boxedLoopIterate(Bench b) {
+        int count = 0;
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            if (b.boxedData.get(i) > 0)
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boxedIteratorIterate(Bench b) {
+        int count = 0;
+        for (var value : b.boxedData) {
+            if (value > 0)
+                ++count;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.contains.stream().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        for (int i = 0; i < b.contains.size(); i++) {
+            if (b.contains.get(i) == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorContains(Bench b) {
+        var iter = b.contains.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.nextInt() == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean boxedLambdaContains(Bench b) {
+        return b.boxedContains.stream().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean boxedLoopContains(Bench b) {
+        for (int i = 0; i < b.boxedContains.size(); i++) {
+            if (b.boxedContains.get(i) == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean boxedIteratorContains(Bench b) {
+        for (var value : b.boxedContains) {
+            if (value == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList lambdaFilter(Bench b) {
+        return b.filter.stream().filter(n -> n >= 0)
+                .collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList loopFilter(Bench b) {
+        var result = new IntArrayList();
+        for (int i = 0; i < b.filter.size(); i++) {
+            if (b.filter.get(i) >= 0)
+                result.add(b.filter.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList iteratorFilter(Bench b) {
+        var result = new IntArrayList();
+        var iter = b.filter.iterator();
+
+        while (iter.hasNext()) {
+            var value = iter.nextInt();
+            if (value >= 0)
+                result.add(value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLambdaFilter(Bench b) {
+        return b.boxedFilter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLoopFilter(Bench b) {
+        var result = new ArrayList<Integer>();
+        for (int i = 0; i < b.boxedFilter.size(); i++) {
+            if (b.boxedFilter.get(i) >= 0)
+                result.add(b.boxedFilter.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedIteratorFilter(Bench b) {
+        var result = new ArrayList<Integer>();
+        for (var value : b.boxedFilter) {
+            if (value >= 0)
+                result.add(value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList lambdaCopy(Bench b) {
+        return b.data.stream().map(n -> n).collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList loopCopy(Bench b) {
+        var result = new IntArrayList(b.data.size());
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList iteratorCopy(Bench b) {
+        var result = new IntArrayList(b.data.size());
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            result.add(iter.nextInt());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLambdaCopy(Bench b) {
+        return b.boxedData.stream().map(n -> n).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLoopCopy(Bench b) {
+        var result = new ArrayList<Integer>(b.boxedData.size());
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            result.add(b.boxedData.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedIteratorCopy(Bench b) {
+        var result = new ArrayList<Integer>(b.boxedData.size());
+        for (var value : b.boxedData) {
+            result.add(value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList lambdaMap(Bench b) {
+        return b.data.stream().map(n -> n * n).collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList loopMap(Bench b) {
+        var result = new IntArrayList(b.data.size());
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i) * b.data.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntArrayList iteratorMap(Bench b) {
+        var result = new IntArrayList(b.data.size());
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            var value = iter.nextInt();
+            result.add(value * value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLambdaMap(Bench b) {
+        return b.boxedData.stream().map(n -> n * n).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedLoopMap(Bench b) {
+        var result = new ArrayList<Integer>(b.boxedData.size());
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            result.add(b.boxedData.get(i) * b.boxedData.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Integer> boxedIteratorMap(Bench b) {
+        var result = new ArrayList<Integer>(b.boxedData.size());
+        for (var value : b.boxedData) {
+            result.add(value * value);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,446 @@
+package com.benchmarks.primitive;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.*;
+
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+public class PrimitiveListLong {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public long target;
+        public LongArrayList data;
+        public LongArrayList contains;
+        public LongArrayList filter;
+        public ArrayList<Long> boxedData;
+        public ArrayList<Long> boxedContains;
+        public ArrayList<Long> boxedFilter;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new LongArrayList(N);
+            contains = new LongArrayList(N);
+            filter = new LongArrayList(N);
+            target = (long) Datasets.random(seed, 0).nextInt(101) * N;
+
+            for (int i = 1; i <= N; i++) {
+                data.add((long) (i * N));
+            }
+
+            for (int v : Datasets.ints(seed, 1, N, 0, 101)) {
+                contains.add((long) v * N);
+            }
+
+            for (int v : Datasets.ints(seed, 2, N, N, 3 * N)) {
+                filter.add((long) v);
+            }
+
+            boxedData = boxed(data);
+            boxedContains = boxed(contains);
+            boxedFilter = boxed(filter);
+        }
+
+        private static ArrayList<Long> boxed(LongArrayList values) {
+            var result = new ArrayList<Long>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                result.add(values.get(i));
+            }
+
+            return result;
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long lambdaReduce(Bench b) {
+        return b.data.stream().sum();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loopReduce(Bench b) {
+        long total = 0L;
+        for (int i = 0; i < b.data.size(); i++) {
+            total += b.data.get(i);
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long iteratorReduce(Bench b) {
+        long total = 0L;
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            total += iter.nextLong();
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long boxedLambdaReduce(Bench b) {
+        return b.boxedData.stream().reduce(0L, Long::sum);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long boxedLoopReduce(Bench b) {
+        long total = 0L;
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            total += b.boxedData.get(i);
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long boxedIteratorReduce(Bench b) {
+        long total = 0L;
+        for (var value : b.boxedData) {
+            total += value;
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList lambdaPopulate(Bench b) {
+        var rnd = new Random();
+        return LongStream.iterate(rnd.nextLong(), i -> i + rnd.nextLong()).limit(b.data.size())
+                .collect(LongArrayList::new, LongArrayList::add, LongArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList loopPopulate(Bench b) {
+        var result = new LongArrayList(b.data.size());
+        var rnd = new Random();
+
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i) + rnd.nextLong());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList iteratorPopulate(Bench b) {
+        var result = new LongArrayList(b.data.size());
+        var rnd = new Random();
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            result.add(iter.nextLong() + rnd.nextLong());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLambdaPopulate(Bench b) {
+        var rnd = new Random();
+        return Stream.iterate(rnd.nextLong(), i -> i + rnd.nextLong()).limit(b.boxedData.size())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLoopPopulate(Bench b) {
+        var result = new ArrayList<Long>(b.boxedData.size());
+        var rnd = new Random();
+
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            result.add(b.boxedData.get(i) + rnd.nextLong());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedIteratorPopulate(Bench b) {
+        var result = new ArrayList<Long>(b.boxedData.size());
+        var rnd = new Random();
+
+        for (var value : b.boxedData) {
+            result.add(value + rnd.nextLong());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long lambdaIterate(Bench b) {
+        return b.data.stream().filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loopIterate(Bench b) {
+        long count = 0L;
+        for (int i = 0; i < b.data.size(); i++) {
+            if (b.data.get(i) > 0)
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long iteratorIterate(Bench b) {
+        long count = 0L;
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.nextLong() > 0)
+                ++count;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long boxedLambdaIterate(Bench b) {
+        return b.boxedData.stream().filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long boxedLoopIterate(Bench b) {
+        long count = 0L;
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            if (b.boxedData.get(i) > 0)
+                count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long boxedIteratorIterate(Bench b) {
+        long count = 0L;
+        for (var value : b.boxedData) {
+            if (value > 0)
+                ++count;
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.contains.stream().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        for (int i = 0; i < b.contains.size(); i++) {
+            if (b.contains.get(i) == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorContains(Bench b) {
+        var iter = b.contains.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.nextLong() == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean boxedLambdaContains(Bench b) {
+        return b.boxedContains.stream().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean boxedLoopContains(Bench b) {
+        for (int i = 0; i < b.boxedContains.size(); i++) {
+            if (b.boxedContains.get(i) == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean boxedIteratorContains(Bench b) {
+        for (var value : b.boxedContains) {
+            if (value == b.target)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList lambdaFilter(Bench b) {
+        return b.filter.stream().filter(n -> n >= 0)
+                .collect(LongArrayList::new, LongArrayList::add, LongArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList loopFilter(Bench b) {
+        var result = new LongArrayList();
+        for (int i = 0; i < b.filter.size(); i++) {
+            if (b.filter.get(i) >= 0)
+                result.add(b.filter.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList iteratorFilter(Bench b) {
+        var result = new LongArrayList();
+        var iter = b.filter.iterator();
+
+        while (iter.hasNext()) {
+            var value = iter.nextLong();
+            if (value >= 0)
+                result.add(value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLambdaFilter(Bench b) {
+        return b.boxedFilter.stream().filter(n -> n >= 0).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLoopFilter(Bench b) {
+        var result = new ArrayList<Long>();
+        for (int i = 0; i < b.boxedFilter.size(); i++) {
+            if (b.boxedFilter.get(i) >= 0)
+                result.add(b.boxedFilter.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedIteratorFilter(Bench b) {
+        var result = new ArrayList<Long>();
+        for (var value : b.boxedFilter) {
+            if (value >= 0)
+                result.add(value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList lambdaCopy(Bench b) {
+        return b.data.stream().map(n -> n).collect(LongArrayList::new, LongArrayList::add, LongArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList loopCopy(Bench b) {
+        var result = new LongArrayList(b.data.size());
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList iteratorCopy(Bench b) {
+        var result = new LongArrayList(b.data.size());
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            result.add(iter.nextLong());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLambdaCopy(Bench b) {
+        return b.boxedData.stream().map(n -> n).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLoopCopy(Bench b) {
+        var result = new ArrayList<Long>(b.boxedData.size());
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            result.add(b.boxedData.get(i));
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedIteratorCopy(Bench b) {
+        var result = new ArrayList<Long>(b.boxedData.size());
+        for (var value : b.boxedData) {
+            result.add(value);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList lambdaMap(Bench b) {
+        return b.data.stream().map(n -> n * b.N).collect(LongArrayList::new, LongArrayList::add, LongArrayList::addAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList loopMap(Bench b) {
+        var result = new LongArrayList(b.data.size());
+        for (int i = 0; i < b.data.size(); i++) {
+            result.add(b.data.get(i) * b.N);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongArrayList iteratorMap(Bench b) {
+        var result = new LongArrayList(b.data.size());
+        var iter = b.data.iterator();
+
+        while (iter.hasNext()) {
+            var value = iter.nextLong();
+            result.add(value * b.N);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLambdaMap(Bench b) {
+        return b.boxedData.stream().map(n -> n * b.N).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedLoopMap(Bench b) {
+        var result = new ArrayList<Long>(b.boxedData.size());
+        for (int i = 0; i < b.boxedData.size(); i++) {
+            result.add(b.boxedData.get(i) * b.N);
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Long> boxedIteratorMap(Bench b) {
+        var result = new ArrayList<Long>(b.boxedData.size());
+        for (var value : b.boxedData) {
+            result.add(value * b.N);
+        }
+
+        return result;
+    }
+}
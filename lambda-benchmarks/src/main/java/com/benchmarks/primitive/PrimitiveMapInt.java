@@ -0,0 +1,267 @@
+package com.benchmarks.primitive;
+
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+public class PrimitiveMapInt {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public IntIntHashMap data;
+        public IntIntHashMap contains;
+        public IntArrayList range;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new IntIntHashMap(N);
+            range = new IntArrayList(N);
+            contains = new IntIntHashMap(N);
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+
+            for (int i = 1; i <= N; i++) {
+                data.put(i, i * 10);
+            }
+
+            for (int i = 1; i <= N; i++) {
+                range.add(i);
+            }
+
+            var values = Datasets.ints(seed, 1, N, N, 3 * N);
+            for (int i = 1; i <= N; i++) {
+                contains.put(i, values[i - 1]);
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaReduce(Bench b) {
+        return b.data.reduceValues(0, Integer::sum);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopReduce(Bench b) {
+        int total = 0;
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                total += b.data.valueAt(i);
+            }
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iteratorReduce(Bench b) {
+        int total = 0;
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            total += cursor.value();
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap lambdaPopulate(Bench b) {
+        return b.range.stream().collect(() -> new IntIntHashMap(b.N), (map, k) -> map.put(k, k * 5),
+                IntIntHashMap::putAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap loopPopulate(Bench b) {
+        var map = new IntIntHashMap(b.N);
+
+        for (int i = 1; i <= b.N; i++) {
+            map.put(i, i * 5);
+        }
+
+        return map;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap iteratorPopulate(Bench b) {
+        var map = new IntIntHashMap(b.N);
+        var iter = b.range.iterator();
+
+        while (iter.hasNext()) {
+            var value = iter.nextInt();
+            map.put(value, value * 5);
+        }
+
+        return map;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        return (int) b.data.values().filter(n -> n < Integer.MAX_VALUE).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        int count = 0;
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i) && b.data.valueAt(i) < Integer.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iteratorIterate(Bench b) {
+        int count = 0;
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            if (cursor.value() < Integer.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.contains.values().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        for (int i = 0; i < b.contains.capacity(); i++) {
+            if (b.contains.isUsed(i) && b.contains.valueAt(i) == b.target) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorContains(Bench b) {
+        var cursor = b.contains.cursor();
+
+        while (cursor.advance()) {
+            if (cursor.value() == b.target) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap lambdaFilter(Bench b) {
+        return b.data.keys().filter(k -> k % 2 == 0).collect(IntIntHashMap::new, (map, k) -> map.put(k, k * 10),
+                IntIntHashMap::putAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap loopFilter(Bench b) {
+        var result = new IntIntHashMap();
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                var key = b.data.keyAt(i);
+                if (key % 2 == 0) {
+                    result.put(key, key * 10);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap iteratorFilter(Bench b) {
+        var result = new IntIntHashMap();
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            var key = cursor.key();
+            if (key % 2 == 0) {
+                result.put(key, key * 10);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap lambdaCopy(Bench b) {
+        var result = new IntIntHashMap(b.data.size());
+        b.data.forEach(result::put);
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap loopCopy(Bench b) {
+        var result = new IntIntHashMap(b.data.size());
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                result.put(b.data.keyAt(i), b.data.valueAt(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap iteratorCopy(Bench b) {
+        var result = new IntIntHashMap(b.data.size());
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            result.put(cursor.key(), cursor.value());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap bulkCopy(Bench b) {
+        return b.data.copy();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap lambdaMap(Bench b) {
+        var result = new IntIntHashMap(b.data.size());
+        b.data.forEach((k, v) -> result.put(k * 10, v * 10));
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap loopMap(Bench b) {
+        var result = new IntIntHashMap(b.data.size());
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                result.put(b.data.keyAt(i) * 10, b.data.valueAt(i) * 10);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public IntIntHashMap iteratorMap(Bench b) {
+        var result = new IntIntHashMap(b.data.size());
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            result.put(cursor.key() * 10, cursor.value() * 10);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,267 @@
+package com.benchmarks.primitive;
+
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.data.Datasets;
+
+import org.openjdk.jmh.annotations.*;
+
+public class PrimitiveMapLong {
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public long target;
+        public LongLongHashMap data;
+        public LongLongHashMap contains;
+        public LongArrayList range;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new LongLongHashMap(N);
+            for (long i = 1; i <= N; i++) {
+                data.put(i * 10, i * N);
+            }
+
+            range = new LongArrayList(N);
+            for (long i = 1; i <= N; i++) {
+                range.add(i);
+            }
+
+            contains = new LongLongHashMap();
+            target = Datasets.random(seed, 0).nextInt(N, 3 * N);
+
+            var values = Datasets.ints(seed, 1, N, N, 3 * N);
+            for (int i = 1; i <= N; i++) {
+                contains.put(i, values[i - 1]);
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long lambdaReduce(Bench b) {
+        return b.data.reduceValues(0, Long::sum);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loopReduce(Bench b) {
+        long total = 0;
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                total += b.data.valueAt(i);
+            }
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long iteratorReduce(Bench b) {
+        long total = 0;
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            total += cursor.value();
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap lambdaPopulate(Bench b) {
+        return b.range.stream().collect(() -> new LongLongHashMap(b.N), (map, k) -> map.put(k, k * 5),
+                LongLongHashMap::putAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap loopPopulate(Bench b) {
+        var map = new LongLongHashMap(b.N);
+
+        for (long i = 0; i < b.range.size(); i++) {
+            map.put(i, i * 5);
+        }
+
+        return map;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap iteratorPopulate(Bench b) {
+        var map = new LongLongHashMap(b.N);
+        var iter = b.range.iterator();
+
+        while (iter.hasNext()) {
+            var value = iter.nextLong();
+            map.put(value, value * 5);
+        }
+
+        return map;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long lambdaIterate(Bench b) {
+        return b.data.values().filter(n -> n < Long.MAX_VALUE).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long loopIterate(Bench b) {
+        long count = 0;
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i) && b.data.valueAt(i) < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long iteratorIterate(Bench b) {
+        long count = 0;
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            if (cursor.value() < Long.MAX_VALUE) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.contains.values().anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        for (int i = 0; i < b.contains.capacity(); i++) {
+            if (b.contains.isUsed(i) && b.contains.valueAt(i) == b.target) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean iteratorContains(Bench b) {
+        var cursor = b.contains.cursor();
+
+        while (cursor.advance()) {
+            if (cursor.value() == b.target) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap lambdaFilter(Bench b) {
+        return b.data.keys().filter(k -> k % 2 == 0).collect(LongLongHashMap::new, (map, k) -> map.put(k, k * 10),
+                LongLongHashMap::putAll);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap loopFilter(Bench b) {
+        var result = new LongLongHashMap();
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                var key = b.data.keyAt(i);
+                if (key % 2 == 0) {
+                    result.put(key, key * 10);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap iteratorFilter(Bench b) {
+        var result = new LongLongHashMap();
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            var key = cursor.key();
+            if (key % 2 == 0) {
+                result.put(key, key * 10);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap lambdaCopy(Bench b) {
+        var result = new LongLongHashMap(b.data.size());
+        b.data.forEach(result::put);
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap loopCopy(Bench b) {
+        var result = new LongLongHashMap(b.data.size());
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                result.put(b.data.keyAt(i), b.data.valueAt(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap iteratorCopy(Bench b) {
+        var result = new LongLongHashMap(b.data.size());
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            result.put(cursor.key(), cursor.value());
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap bulkCopy(Bench b) {
+        return b.data.copy();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap lambdaMap(Bench b) {
+        var result = new LongLongHashMap(b.data.size());
+        b.data.forEach((k, v) -> result.put(k * 10, v * 10));
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap loopMap(Bench b) {
+        var result = new LongLongHashMap(b.data.size());
+        for (int i = 0; i < b.data.capacity(); i++) {
+            if (b.data.isUsed(i)) {
+                result.put(b.data.keyAt(i) * 10, b.data.valueAt(i) * 10);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LongLongHashMap iteratorMap(Bench b) {
+        var result = new LongLongHashMap(b.data.size());
+        var cursor = b.data.cursor();
+
+        while (cursor.advance()) {
+            result.put(cursor.key() * 10, cursor.value() * 10);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.benchmarks.reduction;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One long accumulator per worker of a ForkJoinPool, picked by
+ * {@link ForkJoinWorkerThread#getPoolIndex()}. Each slot has a single writer, so plain adds are
+ * enough, and the total is read after the parallel operation has joined. {@code stride} is the
+ * distance between slots in longs: with 1 the slots share cache lines and every add invalidates
+ * the neighbours' copies; with 16 (128 bytes) each slot also stays clear of the adjacent-line
+ * prefetcher. Threads outside the pool, or with an index past the last slot, add to a shared
+ * AtomicLong instead.
+ */
+final class Cells {
+    static final int STRIPED = 1;
+    static final int PADDED = 16;
+
+    private final ForkJoinPool pool;
+    private final long[] cells;
+    private final int slots;
+    private final int stride;
+    private final AtomicLong overflow = new AtomicLong();
+
+    // Twice the parallelism leaves room for the compensation threads a pool may add while a worker blocks.
+    Cells(ForkJoinPool pool, int stride) {
+        this.pool = pool;
+        this.slots = pool.getParallelism() * 2;
+        this.stride = stride;
+        this.cells = new long[(slots + 2) * stride];
+    }
+
+    void add(long value) {
+        var thread = Thread.currentThread();
+
+        if (thread instanceof ForkJoinWorkerThread) {
+            var worker = (ForkJoinWorkerThread) thread;
+            int index = worker.getPoolIndex();
+
+            if (worker.getPool() == pool && index < slots) {
+                cells[(index + 1) * stride] += value;
+                return;
+            }
+        }
+
+        overflow.addAndGet(value);
+    }
+
+    long sum() {
+        long sum = overflow.get();
+        for (int i = 1; i <= slots; i++) {
+            sum += cells[i * stride];
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,67 @@
+package com.benchmarks.reduction;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongPredicate;
+
+import com.benchmarks.ParallelPool;
+
+/**
+ * Parallel sum and count that push every element into one shared accumulator from a parallel
+ * forEach, the way a counter updated from inside a parallel stream does. Run inside
+ * {@link ParallelPool#invoke} so the forEach uses that pool's workers.
+ */
+final class Combiners {
+
+    private Combiners() {
+    }
+
+    static long atomicSum(Collection<Long> data) {
+        var sum = new AtomicLong();
+        data.parallelStream().forEach(v -> sum.addAndGet(v));
+        return sum.get();
+    }
+
+    static long atomicCount(Collection<Long> data, LongPredicate filter) {
+        var count = new AtomicLong();
+        data.parallelStream().forEach(v -> {
+            if (filter.test(v)) {
+                count.incrementAndGet();
+            }
+        });
+        return count.get();
+    }
+
+    static long adderSum(Collection<Long> data) {
+        var sum = new LongAdder();
+        data.parallelStream().forEach(v -> sum.add(v));
+        return sum.sum();
+    }
+
+    static long adderCount(Collection<Long> data, LongPredicate filter) {
+        var count = new LongAdder();
+        data.parallelStream().forEach(v -> {
+            if (filter.test(v)) {
+                count.increment();
+            }
+        });
+        return count.sum();
+    }
+
+    static long cellsSum(Collection<Long> data, ParallelPool p, int stride) {
+        var sum = new Cells(p.pool, stride);
+        data.parallelStream().forEach(v -> sum.add(v));
+        return sum.sum();
+    }
+
+    static long cellsCount(Collection<Long> data, LongPredicate filter, ParallelPool p, int stride) {
+        var count = new Cells(p.pool, stride);
+        data.parallelStream().forEach(v -> {
+            if (filter.test(v)) {
+                count.add(1);
+            }
+        });
+        return count.sum();
+    }
+}
@@ -0,0 +1,68 @@
+package com.benchmarks.reduction;
+
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.ArrayList.ArrayListLong;
+import com.benchmarks.ParallelPool;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListLong parallelReduce/parallelIterate with the partial results combined five ways: the stream's own
+// reduce, one AtomicLong, a LongAdder, per-worker slots in adjacent longs (striped) and the same slots
+// 128 bytes apart (padded). Sweep -p parallelism to see contention and false sharing grow with threads.
+public class ReductionArrayListLong {
+
+    @State(Scope.Thread)
+    public static class Bench extends ArrayListLong.Bench {
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long streamSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long atomicSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.atomicSum(b.data));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long adderSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.adderSum(b.data));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long stripedSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsSum(b.data, p, Cells.STRIPED));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long paddedSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsSum(b.data, p, Cells.PADDED));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long streamCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.parallelStream().filter(n -> n > 0).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long atomicCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.atomicCount(b.data, n -> n > 0));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long adderCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.adderCount(b.data, n -> n > 0));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long stripedCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsCount(b.data, n -> n > 0, p, Cells.STRIPED));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long paddedCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsCount(b.data, n -> n > 0, p, Cells.PADDED));
+    }
+}
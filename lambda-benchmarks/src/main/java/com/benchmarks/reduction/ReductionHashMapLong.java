@@ -0,0 +1,68 @@
+package com.benchmarks.reduction;
+
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.HashMap.HashMapLong;
+import com.benchmarks.ParallelPool;
+
+import org.openjdk.jmh.annotations.*;
+
+// HashMapLong parallelReduce/parallelIterate with the partial results combined five ways: the stream's own
+// reduce, one AtomicLong, a LongAdder, per-worker slots in adjacent longs (striped) and the same slots
+// 128 bytes apart (padded). Sweep -p parallelism to see contention and false sharing grow with threads.
+public class ReductionHashMapLong {
+
+    @State(Scope.Thread)
+    public static class Bench extends HashMapLong.Bench {
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long streamSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.values().parallelStream().reduce(0L, Long::sum));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long atomicSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.atomicSum(b.data.values()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long adderSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.adderSum(b.data.values()));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long stripedSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsSum(b.data.values(), p, Cells.STRIPED));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long paddedSum(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsSum(b.data.values(), p, Cells.PADDED));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long streamCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> b.data.values().parallelStream().filter(n -> n < Long.MAX_VALUE).count());
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long atomicCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.atomicCount(b.data.values(), n -> n < Long.MAX_VALUE));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long adderCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.adderCount(b.data.values(), n -> n < Long.MAX_VALUE));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long stripedCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsCount(b.data.values(), n -> n < Long.MAX_VALUE, p, Cells.STRIPED));
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long paddedCount(Bench b, ParallelPool p) {
+        return p.invoke(() -> Combiners.cellsCount(b.data.values(), n -> n < Long.MAX_VALUE, p, Cells.PADDED));
+    }
+}
@@ -0,0 +1,70 @@
+package com.benchmarks.shared;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.ArrayList.ArrayListClass;
+import com.benchmarks.Student;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListClass read benchmarks over one Scope.Benchmark dataset that every JMH thread shares; compare with
+// ArrayListClass at the same -t, where each thread builds and reads its own copy.
+public class SharedArrayListClass {
+
+    @State(Scope.Benchmark)
+    public static class Bench extends ArrayListClass.Bench {
+        public ArrayListClass benches = new ArrayListClass();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String lambdaReduce(Bench b) {
+        return b.benches.lambdaReduce(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String loopReduce(Bench b) {
+        return b.benches.loopReduce(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int lambdaIterate(Bench b) {
+        return b.benches.lambdaIterate(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loopIterate(Bench b) {
+        return b.benches.loopIterate(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean lambdaContains(Bench b) {
+        return b.benches.lambdaContains(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean loopContains(Bench b) {
+        return b.benches.loopContains(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> lambdaFilter(Bench b) {
+        return b.benches.lambdaFilter(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Student> loopFilter(Bench b) {
+        return b.benches.loopFilter(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> lambdaMap(Bench b) {
+        return b.benches.lambdaMap(b);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashMap<Long, String> loopMap(Bench b) {
+        return b.benches.loopMap(b);
+    }
+}
@@ -0,0 +1,253 @@
+package com.benchmarks.vector;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.data.Datasets;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListInt kernels over int[] holding the same data: scalar* is a plain loop (left to C2's
+// auto-vectorizer), stream* uses IntStream and vector* uses the Vector API explicitly.
+// With -f 0 the host JVM needs --add-modules jdk.incubator.vector as well.
+@Fork(jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorInt {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public int target;
+        public int[] data;
+        public int[] contains;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new int[N];
+            for (int i = 1; i <= N; i++) {
+                data[i - 1] = i;
+            }
+
+            target = Datasets.random(seed, 0).nextInt(-1, 99);
+            contains = Datasets.ints(seed, 1, N, -1, 99);
+        }
+    }
+
+    // Input of the *Filter benchmarks: N values over a range of width 2N, about passPercent% of
+    // them >= 0. At 100 every block of vectorFilter takes the whole-vector store, as with the
+    // ArrayListInt filter data in [N, 3N); lower values mix in per-lane and skipped blocks.
+    @State(Scope.Thread)
+    public static class Filter {
+        @Param({"100","50","10"})
+        public int passPercent;
+        public int[] data;
+
+        @Setup(Level.Trial)
+        public void setupData(Bench b) {
+            int origin = (int) (-2L * b.N * (100 - passPercent) / 100);
+            data = Datasets.ints(b.seed, 2, b.N, origin, origin + 2 * b.N);
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int scalarReduce(Bench b) {
+        int total = 0;
+        for (int n : b.data) {
+            total += n;
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int streamReduce(Bench b) {
+        return Arrays.stream(b.data).sum();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int vectorReduce(Bench b) {
+        var data = b.data;
+        int upper = SPECIES.loopBound(data.length);
+        var sum = IntVector.zero(SPECIES);
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            sum = sum.add(IntVector.fromArray(SPECIES, data, i));
+        }
+
+        int total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < data.length; i++) {
+            total += data[i];
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int scalarIterate(Bench b) {
+        int count = 0;
+        for (int n : b.data) {
+            if (n > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int streamIterate(Bench b) {
+        return (int) Arrays.stream(b.data).filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int vectorIterate(Bench b) {
+        var data = b.data;
+        int upper = SPECIES.loopBound(data.length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, data, i).compare(VectorOperators.GT, 0).trueCount();
+        }
+
+        for (; i < data.length; i++) {
+            if (data[i] > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean scalarContains(Bench b) {
+        for (int n : b.contains) {
+            if (n == b.target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean streamContains(Bench b) {
+        return Arrays.stream(b.contains).anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean vectorContains(Bench b) {
+        var data = b.contains;
+        int target = b.target;
+        int upper = SPECIES.loopBound(data.length);
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            if (IntVector.fromArray(SPECIES, data, i).compare(VectorOperators.EQ, target).anyTrue()) {
+                return true;
+            }
+        }
+
+        for (; i < data.length; i++) {
+            if (data[i] == target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] scalarFilter(Filter f) {
+        var data = f.data;
+        var result = new int[data.length];
+        int count = 0;
+
+        for (int n : data) {
+            if (n >= 0) {
+                result[count++] = n;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] streamFilter(Filter f) {
+        return Arrays.stream(f.data).filter(n -> n >= 0).toArray();
+    }
+
+    // JDK 17 has no lane compress, so only all-true blocks are stored as a whole vector.
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] vectorFilter(Filter f) {
+        var data = f.data;
+        var result = new int[data.length];
+        int upper = SPECIES.loopBound(data.length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            var v = IntVector.fromArray(SPECIES, data, i);
+            var mask = v.compare(VectorOperators.GE, 0);
+
+            if (mask.allTrue()) {
+                v.intoArray(result, count);
+                count += SPECIES.length();
+            } else if (mask.anyTrue()) {
+                for (int lane = 0; lane < SPECIES.length(); lane++) {
+                    if (mask.laneIsSet(lane)) {
+                        result[count++] = data[i + lane];
+                    }
+                }
+            }
+        }
+
+        for (; i < data.length; i++) {
+            if (data[i] >= 0) {
+                result[count++] = data[i];
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] scalarMap(Bench b) {
+        var data = b.data;
+        var result = new int[data.length];
+
+        for (int i = 0; i < data.length; i++) {
+            result[i] = data[i] * data[i];
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] streamMap(Bench b) {
+        return Arrays.stream(b.data).map(n -> n * n).toArray();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] vectorMap(Bench b) {
+        var data = b.data;
+        var result = new int[data.length];
+        int upper = SPECIES.loopBound(data.length);
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            var v = IntVector.fromArray(SPECIES, data, i);
+            v.mul(v).intoArray(result, i);
+        }
+
+        for (; i < data.length; i++) {
+            result[i] = data[i] * data[i];
+        }
+
+        return result;
+    }
+}
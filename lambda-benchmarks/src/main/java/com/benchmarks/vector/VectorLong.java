@@ -0,0 +1,261 @@
+package com.benchmarks.vector;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.benchmarks.data.Datasets;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import org.openjdk.jmh.annotations.*;
+
+// ArrayListLong kernels over long[] holding the same data: scalar* is a plain loop (left to C2's
+// auto-vectorizer), stream* uses LongStream and vector* uses the Vector API explicitly.
+// With -f 0 the host JVM needs --add-modules jdk.incubator.vector as well.
+@Fork(jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorLong {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @State(Scope.Thread)
+    public static class Bench {
+        @Param({"100","1000","10000","100000","1000000"})
+        public int N;
+        @Param({"42"})
+        public long seed;
+        public long target;
+        public long[] data;
+        public long[] contains;
+
+        @Setup(Level.Trial)
+        public void setupData() {
+            data = new long[N];
+            contains = new long[N];
+            target = (long) Datasets.random(seed, 0).nextInt(101) * N;
+
+            for (int i = 1; i <= N; i++) {
+                data[i - 1] = (long) (i * N);
+            }
+
+            var values = Datasets.ints(seed, 1, N, 0, 101);
+            for (int i = 0; i < N; i++) {
+                contains[i] = (long) values[i] * N;
+            }
+        }
+    }
+
+    // Input of the *Filter benchmarks: N values over a range of width 2N, about passPercent% of
+    // them >= 0. At 100 every block of vectorFilter takes the whole-vector store, as with the
+    // ArrayListLong filter data in [N, 3N); lower values mix in per-lane and skipped blocks.
+    @State(Scope.Thread)
+    public static class Filter {
+        @Param({"100","50","10"})
+        public int passPercent;
+        public long[] data;
+
+        @Setup(Level.Trial)
+        public void setupData(Bench b) {
+            int origin = (int) (-2L * b.N * (100 - passPercent) / 100);
+            var values = Datasets.ints(b.seed, 2, b.N, origin, origin + 2 * b.N);
+            data = new long[b.N];
+            for (int i = 0; i < b.N; i++) {
+                data[i] = values[i];
+            }
+        }
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long scalarReduce(Bench b) {
+        long total = 0;
+        for (long n : b.data) {
+            total += n;
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long streamReduce(Bench b) {
+        return Arrays.stream(b.data).sum();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long vectorReduce(Bench b) {
+        var data = b.data;
+        int upper = SPECIES.loopBound(data.length);
+        var sum = LongVector.zero(SPECIES);
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            sum = sum.add(LongVector.fromArray(SPECIES, data, i));
+        }
+
+        long total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < data.length; i++) {
+            total += data[i];
+        }
+
+        return total;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long scalarIterate(Bench b) {
+        long count = 0;
+        for (long n : b.data) {
+            if (n > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long streamIterate(Bench b) {
+        return Arrays.stream(b.data).filter(n -> n > 0).count();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long vectorIterate(Bench b) {
+        var data = b.data;
+        int upper = SPECIES.loopBound(data.length);
+        long count = 0;
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            count += LongVector.fromArray(SPECIES, data, i).compare(VectorOperators.GT, 0).trueCount();
+        }
+
+        for (; i < data.length; i++) {
+            if (data[i] > 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean scalarContains(Bench b) {
+        for (long n : b.contains) {
+            if (n == b.target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean streamContains(Bench b) {
+        return Arrays.stream(b.contains).anyMatch(n -> n == b.target);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean vectorContains(Bench b) {
+        var data = b.contains;
+        long target = b.target;
+        int upper = SPECIES.loopBound(data.length);
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            if (LongVector.fromArray(SPECIES, data, i).compare(VectorOperators.EQ, target).anyTrue()) {
+                return true;
+            }
+        }
+
+        for (; i < data.length; i++) {
+            if (data[i] == target) return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] scalarFilter(Filter f) {
+        var data = f.data;
+        var result = new long[data.length];
+        int count = 0;
+
+        for (long n : data) {
+            if (n >= 0) {
+                result[count++] = n;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] streamFilter(Filter f) {
+        return Arrays.stream(f.data).filter(n -> n >= 0).toArray();
+    }
+
+    // JDK 17 has no lane compress, so only all-true blocks are stored as a whole vector.
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] vectorFilter(Filter f) {
+        var data = f.data;
+        var result = new long[data.length];
+        int upper = SPECIES.loopBound(data.length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            var v = LongVector.fromArray(SPECIES, data, i);
+            var mask = v.compare(VectorOperators.GE, 0);
+
+            if (mask.allTrue()) {
+                v.intoArray(result, count);
+                count += SPECIES.length();
+            } else if (mask.anyTrue()) {
+                for (int lane = 0; lane < SPECIES.length(); lane++) {
+                    if (mask.laneIsSet(lane)) {
+                        result[count++] = data[i + lane];
+                    }
+                }
+            }
+        }
+
+        for (; i < data.length; i++) {
+            if (data[i] >= 0) {
+                result[count++] = data[i];
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] scalarMap(Bench b) {
+        var data = b.data;
+        var result = new long[data.length];
+
+        for (int i = 0; i < data.length; i++) {
+            result[i] = data[i] * b.N;
+        }
+
+        return result;
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] streamMap(Bench b) {
+        return Arrays.stream(b.data).map(n -> n * b.N).toArray();
+    }
+
+    @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] vectorMap(Bench b) {
+        var data = b.data;
+        var result = new long[data.length];
+        int upper = SPECIES.loopBound(data.length);
+        int i = 0;
+
+        for (; i < upper; i += SPECIES.length()) {
+            LongVector.fromArray(SPECIES, data, i).mul(b.N).intoArray(result, i);
+        }
+
+        for (; i < data.length; i++) {
+            result[i] = data[i] * b.N;
+        }
+
+        return result;
+    }
+}